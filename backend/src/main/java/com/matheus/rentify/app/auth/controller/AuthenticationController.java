@@ -5,6 +5,7 @@ import com.matheus.rentify.app.auth.dto.response.LoginResponseDTO;
 import com.matheus.rentify.app.auth.dto.request.RegisterRequestDTO;
 import com.matheus.rentify.app.auth.service.AuthenticationService;
 import com.matheus.rentify.app.auth.service.JwtService;
+import com.matheus.rentify.app.auth.service.PasswordHashingExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -20,6 +21,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @Tag(name = "Authentication", description = "Endpoints for user registration and login")
@@ -29,36 +32,42 @@ public class AuthenticationController {
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
     private final JwtService jwtService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Autowired
-    public AuthenticationController(AuthenticationService authService, AuthenticationManager authenticationManager, UserDetailsService userDetailsService, JwtService jwtService) {
+    public AuthenticationController(AuthenticationService authService, AuthenticationManager authenticationManager, UserDetailsService userDetailsService, JwtService jwtService, PasswordHashingExecutor passwordHashingExecutor) {
         this.authService = authService;
         this.authenticationManager = authenticationManager;
         this.userDetailsService = userDetailsService;
         this.jwtService = jwtService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user")
-    public ResponseEntity<String> register(@Valid @RequestBody RegisterRequestDTO request) {
-        authService.register(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body("User registered successfully.");
+    public CompletableFuture<ResponseEntity<String>> register(@Valid @RequestBody RegisterRequestDTO request) {
+        return passwordHashingExecutor.submit(() -> {
+            authService.register(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body("User registered successfully.");
+        });
     }
 
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and get JWT token")
-    public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.username(),
-                        request.password()
-                )
-        );
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> login(@Valid @RequestBody LoginRequestDTO request) {
+        return passwordHashingExecutor.submit(() -> {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.username(),
+                            request.password()
+                    )
+            );
 
-        final UserDetails userDetails = userDetailsService.loadUserByUsername(request.username());
+            final UserDetails userDetails = userDetailsService.loadUserByUsername(request.username());
 
-        final String token = jwtService.generateToken(userDetails);
+            final String token = jwtService.generateToken(userDetails);
 
-        return ResponseEntity.ok(new LoginResponseDTO(token));
+            return ResponseEntity.ok(new LoginResponseDTO(token));
+        });
     }
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package com.matheus.rentify.app.auth.filter;
 
+import com.matheus.rentify.app.auth.model.User;
+import com.matheus.rentify.app.auth.model.VerifiedToken;
 import com.matheus.rentify.app.auth.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -22,11 +26,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final boolean stateless;
 
+    /**
+     * @param stateless When true, requests are authenticated from the user id and authorities
+     *                  signed into the token, and the user is never loaded from the database.
+     */
     @Autowired
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsService userDetailsService,
+                                   @Value("${application.security.jwt.stateless:false}") boolean stateless) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.stateless = stateless;
     }
 
     @Override
@@ -44,24 +56,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String username;
+        final VerifiedToken token;
 
         try {
-            username = jwtService.extractUsername(jwt);
+            token = jwtService.verify(jwt);
         } catch (Exception e) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (token.username() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            boolean fromClaims = stateless && token.userId() != null;
+            UserDetails userDetails = fromClaims
+                    ? principalFromClaims(token)
+                    : this.userDetailsService.loadUserByUsername(token.username());
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (token.username().equals(userDetails.getUsername())) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
-                        userDetails.getAuthorities()
+                        fromClaims
+                                ? token.authorities().stream().map(SimpleGrantedAuthority::new).toList()
+                                : userDetails.getAuthorities()
                 );
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
@@ -72,4 +89,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private static User principalFromClaims(VerifiedToken token) {
+        User user = new User();
+        user.setId(token.userId());
+        user.setUsername(token.username());
+        return user;
+    }
+}
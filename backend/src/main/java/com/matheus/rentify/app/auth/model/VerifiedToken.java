@@ -0,0 +1,43 @@
+package com.matheus.rentify.app.auth.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of a JWT whose signature and expiration have already been checked.
+ * Produced by {@code JwtService.verify} so callers never parse the same token twice.
+ */
+public record VerifiedToken(
+        String username,
+        Instant issuedAt,
+        Instant expiresAt,
+        Map<String, Object> claims
+) {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    public boolean isExpiredAt(Instant instant) {
+        return !expiresAt.isAfter(instant);
+    }
+
+    /**
+     * @return The user id claim, or {@code null} for tokens issued without one.
+     */
+    public Long userId() {
+        return claims.get(USER_ID_CLAIM) instanceof Number id ? id.longValue() : null;
+    }
+
+    /**
+     * @return The authority names carried by the token, or an empty list when it has none.
+     */
+    public List<String> authorities() {
+        if (!(claims.get(AUTHORITIES_CLAIM) instanceof List<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .toList();
+    }
+}
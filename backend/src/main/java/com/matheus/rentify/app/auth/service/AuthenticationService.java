@@ -12,11 +12,13 @@ public class AuthenticationService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CachingUserDetailsService userDetailsService;
 
     @Autowired
-    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder, CachingUserDetailsService userDetailsService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
     }
 
     public void register(RegisterRequestDTO request) {
@@ -35,5 +37,6 @@ public class AuthenticationService {
         user.setPassword(passwordEncoder.encode(request.password()));
 
         userRepository.save(user);
+        userDetailsService.evict(user.getUsername());
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.matheus.rentify.app.auth.service;
+
+import com.matheus.rentify.app.auth.model.User;
+import com.matheus.rentify.app.auth.repository.UserRepository;
+import com.matheus.rentify.app.shared.cache.ExpiringLruCache;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Resolves users by username through a size- and TTL-bounded cache, so authenticated requests
+ * do not query {@code users} on every call. Code that changes a user must call {@link #evict(String)}.
+ */
+@Service
+public class CachingUserDetailsService implements UserDetailsService {
+
+    private final UserRepository userRepository;
+    private final ExpiringLruCache<String, User> users;
+
+    @Autowired
+    public CachingUserDetailsService(UserRepository userRepository,
+                                     @Value("${application.security.user-cache.max-entries:1000}") int maxEntries,
+                                     @Value("${application.security.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.users = new ExpiringLruCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) {
+        User cached = users.get(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with username: " + username));
+        users.put(username, user);
+        return user;
+    }
+
+    public void evict(String username) {
+        users.evict(username);
+    }
+
+    public void evictAll() {
+        users.clear();
+    }
+}
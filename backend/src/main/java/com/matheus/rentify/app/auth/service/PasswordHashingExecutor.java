@@ -0,0 +1,75 @@
+package com.matheus.rentify.app.auth.service;
+
+import com.matheus.rentify.app.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt-bound work (login and registration) on a dedicated, bounded pool so a burst of
+ * logins cannot occupy every servlet thread. When both the workers and the queue are full, new
+ * work is rejected immediately with {@link ServiceOverloadedException} instead of queueing.
+ *
+ * Publishes {@code auth.password.hashing.duration}, {@code auth.password.hashing.queue.depth},
+ * {@code auth.password.hashing.active} and {@code auth.password.hashing.rejected}.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer duration;
+    private final Counter rejections;
+
+    @Autowired
+    public PasswordHashingExecutor(@Value("${application.security.password-hashing.threads:0}") int threads,
+                                   @Value("${application.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.duration = Timer.builder("auth.password.hashing.duration")
+                .description("Time spent running a login or registration on the hashing pool")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.password.hashing.rejected")
+                .description("Login or registration attempts rejected because the hashing pool was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Tasks waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws ServiceOverloadedException If every worker is busy and the queue is full.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> duration.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceOverloadedException("Too many concurrent login attempts. Please try again shortly.");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -1,67 +1,179 @@
 package com.matheus.rentify.app.config;
 
 import com.matheus.rentify.app.shared.repository.StateRepository;
+import com.matheus.rentify.app.shared.util.SearchKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
-import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * Seeds the state and city reference tables on an empty database.
+ *
+ * The bundled scripts are parsed once and re-inserted as multi-row {@code INSERT} statements sent
+ * in JDBC batches, inside one transaction. Loading starts on its own thread as soon as this bean
+ * is initialized, so it overlaps with the rest of context startup; {@link #run} only waits for it
+ * to finish before the application reports ready.
+ */
 @Profile("!test")
 @Component
-public class DataLoader implements CommandLineRunner {
+public class DataLoader implements InitializingBean, CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
+
+    private static final int SEARCH_KEY_BATCH_SIZE = 1000;
+    private static final int ROWS_PER_INSERT = 500;
 
-    private final DataSource dataSource;
     private final StateRepository stateRepository;
     private final ResourceLoader resourceLoader;
     private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private CompletableFuture<Void> loading;
 
     @Autowired
-    public DataLoader(DataSource dataSource, StateRepository stateRepository,
-                      ResourceLoader resourceLoader, JdbcTemplate jdbcTemplate) {
-        this.dataSource = dataSource;
+    public DataLoader(StateRepository stateRepository, ResourceLoader resourceLoader,
+                      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
         this.stateRepository = stateRepository;
         this.resourceLoader = resourceLoader;
         this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    public void run(String... args) throws Exception {
-        if (stateRepository.count() == 0) {
-            executeSqlScript("classpath:db/states.sql");
-            executeSqlScript("classpath:db/cities.sql");
-        }
+    public void afterPropertiesSet() {
+        loading = CompletableFuture.runAsync(this::load, task -> {
+            Thread thread = new Thread(task, "reference-data-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
     }
 
-    private void executeSqlScript(String resourcePath) {
+    @Override
+    public void run(String... args) {
+        long start = System.nanoTime();
         try {
-            Resource resource = resourceLoader.getResource(resourcePath);
+            loading.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed to load reference data", e.getCause());
+        }
+        log.info("Reference data ready; startup waited {} ms for it", elapsedMillis(start));
+    }
 
-            try (Connection conn = dataSource.getConnection()) {
-                String databaseProductName = conn.getMetaData().getDatabaseProductName();
+    private void load() {
+        long start = System.nanoTime();
+        if (stateRepository.count() == 0) {
+            ReferenceDataset dataset = ReferenceDataset.parse(readResource("classpath:db/states.sql"), readResource("classpath:db/cities.sql"));
+            long parsed = System.nanoTime();
 
-                if (databaseProductName.contains("H2")) {
-                    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
-                } else if (databaseProductName.contains("MySQL")) {
-                    jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
-                }
+            transactionTemplate.executeWithoutResult(status -> insert(dataset));
+            log.info("Seeded {} states and {} cities in {} ms (parse {} ms, insert {} ms)",
+                    dataset.states().size(), dataset.cities().size(), elapsedMillis(start),
+                    (parsed - start) / 1_000_000, elapsedMillis(parsed));
+        }
+        fillCitySearchKeys();
+    }
+
+    private void insert(ReferenceDataset dataset) {
+        List<Object[]> stateRows = new ArrayList<>(dataset.states().size());
+        for (ReferenceDataset.StateRow state : dataset.states()) {
+            stateRows.add(new Object[]{state.stateCode(), state.stateName()});
+        }
+        insertRows("INSERT INTO states (state_code, state_name) VALUES ", 2, stateRows);
 
-                ScriptUtils.executeSqlScript(conn, resource);
+        Map<String, Long> stateIds = new HashMap<>();
+        jdbcTemplate.query("SELECT state_id, state_code FROM states",
+                        (rs, rowNum) -> Map.entry(rs.getString("state_code"), rs.getLong("state_id")))
+                .forEach(entry -> stateIds.put(entry.getKey(), entry.getValue()));
 
-                if (databaseProductName.contains("H2")) {
-                    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
-                } else if (databaseProductName.contains("MySQL")) {
-                    jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
-                }
+        List<Object[]> cityRows = new ArrayList<>(dataset.cities().size());
+        for (ReferenceDataset.CityRow city : dataset.cities()) {
+            String stateCode = dataset.states().get(city.statePosition() - 1).stateCode();
+            cityRows.add(new Object[]{city.cityName(), stateIds.get(stateCode), SearchKeys.of(city.cityName())});
+        }
+        insertRows("INSERT INTO cities (city_name, state_fk, search_key) VALUES ", 3, cityRows);
+    }
+
+    /**
+     * Sends {@code rows} as one JDBC batch of {@link #ROWS_PER_INSERT}-row statements, plus a
+     * shorter statement for the remainder. The rows are inlined into each statement so the
+     * speed-up does not depend on the driver rewriting batches itself.
+     */
+    private void insertRows(String insertPrefix, int columns, List<Object[]> rows) {
+        int fullStatements = rows.size() / ROWS_PER_INSERT;
+        if (fullStatements > 0) {
+            List<Object[]> batch = new ArrayList<>(fullStatements);
+            for (int i = 0; i < fullStatements; i++) {
+                batch.add(flatten(rows.subList(i * ROWS_PER_INSERT, (i + 1) * ROWS_PER_INSERT), columns));
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to execute SQL script: " + resourcePath, e);
+            jdbcTemplate.batchUpdate(insertPrefix + placeholders(ROWS_PER_INSERT, columns), batch);
+        }
+
+        List<Object[]> remainder = rows.subList(fullStatements * ROWS_PER_INSERT, rows.size());
+        if (!remainder.isEmpty()) {
+            jdbcTemplate.update(insertPrefix + placeholders(remainder.size(), columns), flatten(remainder, columns));
         }
     }
-}
\ No newline at end of file
+
+    private static String placeholders(int rows, int columns) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    private static Object[] flatten(List<Object[]> rows, int columns) {
+        Object[] values = new Object[rows.size() * columns];
+        for (int i = 0; i < rows.size(); i++) {
+            System.arraycopy(rows.get(i), 0, values, i * columns, columns);
+        }
+        return values;
+    }
+
+    /**
+     * Computes {@code cities.search_key} for every row that lacks one, such as those of a database
+     * created before the column existed. The keys are written in JDBC batches, so autocomplete
+     * never has to fold names at query time.
+     */
+    private void fillCitySearchKeys() {
+        List<Object[]> updates = jdbcTemplate.query(
+                "SELECT city_id, city_name FROM cities WHERE search_key IS NULL",
+                (rs, rowNum) -> new Object[]{SearchKeys.of(rs.getString("city_name")), rs.getLong("city_id")});
+
+        for (int from = 0; from < updates.size(); from += SEARCH_KEY_BATCH_SIZE) {
+            int to = Math.min(from + SEARCH_KEY_BATCH_SIZE, updates.size());
+            jdbcTemplate.batchUpdate("UPDATE cities SET search_key = ? WHERE city_id = ?", updates.subList(from, to));
+        }
+        if (!updates.isEmpty()) {
+            log.info("Filled search keys for {} cities", updates.size());
+        }
+    }
+
+    private String readResource(String resourcePath) {
+        try {
+            return resourceLoader.getResource(resourcePath).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + resourcePath, e);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,135 @@
+package com.matheus.rentify.app.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The bundled {@code states.sql} and {@code cities.sql} scripts, parsed into rows.
+ *
+ * Only the {@code VALUES} tuples of their {@code INSERT} statements are read; string literals may
+ * use the {@code ''} escape, any other literal is kept as written. Parsing once in Java lets
+ * {@link DataLoader} re-insert the rows as a handful of multi-row batch statements instead of
+ * running the scripts one statement at a time.
+ *
+ * @param states Rows of {@code (state_code, state_name)}, in script order.
+ * @param cities Rows of {@code (city_name, state_fk)}, where {@code state_fk} is the 1-based
+ *               position of the state in {@code states}.
+ */
+record ReferenceDataset(List<StateRow> states, List<CityRow> cities) {
+
+    record StateRow(String stateCode, String stateName) {
+    }
+
+    record CityRow(String cityName, int statePosition) {
+    }
+
+    static ReferenceDataset parse(String statesSql, String citiesSql) {
+        List<StateRow> states = new ArrayList<>();
+        for (List<String> tuple : valueTuples(statesSql, 2)) {
+            states.add(new StateRow(tuple.get(0), tuple.get(1)));
+        }
+
+        List<CityRow> cities = new ArrayList<>();
+        for (List<String> tuple : valueTuples(citiesSql, 2)) {
+            int statePosition = Integer.parseInt(tuple.get(1));
+            if (statePosition < 1 || statePosition > states.size()) {
+                throw new IllegalArgumentException("City '" + tuple.get(0) + "' references unknown state " + statePosition);
+            }
+            cities.add(new CityRow(tuple.get(0), statePosition));
+        }
+        return new ReferenceDataset(List.copyOf(states), List.copyOf(cities));
+    }
+
+    /**
+     * Collects every tuple following a {@code VALUES} keyword, across all statements of a script.
+     */
+    static List<List<String>> valueTuples(String sql, int arity) {
+        List<List<String>> tuples = new ArrayList<>();
+        String upper = sql.toUpperCase(Locale.ROOT);
+        int position = upper.indexOf("VALUES");
+        while (position >= 0) {
+            position = readTuples(sql, position + "VALUES".length(), arity, tuples);
+            position = upper.indexOf("VALUES", position);
+        }
+        return tuples;
+    }
+
+    /**
+     * Reads comma-separated tuples up to the end of the statement.
+     *
+     * @return The position just after the statement.
+     */
+    private static int readTuples(String sql, int position, int arity, List<List<String>> tuples) {
+        while (true) {
+            position = skipWhitespace(sql, position);
+            expect(sql, position, '(');
+            List<String> fields = new ArrayList<>(arity);
+            position++;
+
+            while (true) {
+                position = skipWhitespace(sql, position);
+                StringBuilder field = new StringBuilder();
+                if (sql.charAt(position) == '\'') {
+                    position = readQuoted(sql, position, field);
+                    fields.add(field.toString());
+                } else {
+                    while (sql.charAt(position) != ',' && sql.charAt(position) != ')') {
+                        field.append(sql.charAt(position++));
+                    }
+                    fields.add(field.toString().strip());
+                }
+
+                position = skipWhitespace(sql, position);
+                char separator = sql.charAt(position++);
+                if (separator == ')') {
+                    break;
+                }
+                if (separator != ',') {
+                    throw new IllegalArgumentException("Unexpected '" + separator + "' at offset " + (position - 1));
+                }
+            }
+
+            if (fields.size() != arity) {
+                throw new IllegalArgumentException("Expected " + arity + " values but found " + fields + " before offset " + position);
+            }
+            tuples.add(fields);
+
+            position = skipWhitespace(sql, position);
+            if (position >= sql.length() || sql.charAt(position) == ';') {
+                return Math.min(position + 1, sql.length());
+            }
+            expect(sql, position++, ',');
+        }
+    }
+
+    private static int readQuoted(String sql, int position, StringBuilder out) {
+        position++;
+        while (true) {
+            char c = sql.charAt(position++);
+            if (c == '\'') {
+                if (position < sql.length() && sql.charAt(position) == '\'') {
+                    out.append('\'');
+                    position++;
+                } else {
+                    return position;
+                }
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static int skipWhitespace(String sql, int position) {
+        while (position < sql.length() && Character.isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static void expect(String sql, int position, char expected) {
+        if (position >= sql.length() || sql.charAt(position) != expected) {
+            throw new IllegalArgumentException("Expected '" + expected + "' at offset " + position);
+        }
+    }
+}
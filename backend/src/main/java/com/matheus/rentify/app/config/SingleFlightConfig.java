@@ -0,0 +1,33 @@
+package com.matheus.rentify.app.config;
+
+import com.matheus.rentify.app.shared.concurrent.SingleFlight;
+import com.matheus.rentify.app.shared.concurrent.SingleFlightGroup;
+import com.matheus.rentify.app.shared.concurrent.SingleFlightInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Applies {@link SingleFlight} to Spring beans. The advisor is an infrastructure bean so the
+ * same auto-proxy creator that handles {@code @Transactional} picks it up without AspectJ. It runs
+ * outside the transaction advice, so callers that wait on another call never open a transaction.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor singleFlightAdvisor(ObjectProvider<SingleFlightGroup> singleFlightGroup) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SingleFlight.class),
+                new SingleFlightInterceptor(singleFlightGroup));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -4,14 +4,17 @@ import com.matheus.rentify.app.history.dto.response.PropertyFinancialsHistoryRes
 import com.matheus.rentify.app.history.dto.response.PropertyValueHistoryResponseDTO;
 import com.matheus.rentify.app.history.service.HistoryService;
 import com.matheus.rentify.app.leases.dto.response.LeaseResponseDTO;
+import com.matheus.rentify.app.shared.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,24 +23,28 @@ import java.util.List;
 @Tag(name = "History", description = "Endpoint to lookup history tables")
 public class HistoryController {
 
+    private static final CacheControl HISTORY_CACHE = CacheControl.noCache().cachePrivate();
+
     private final HistoryService historyService;
+    private final ConditionalGet conditionalGet;
 
     @Autowired
-    public HistoryController(HistoryService historyService) {
+    public HistoryController(HistoryService historyService, ConditionalGet conditionalGet) {
         this.historyService = historyService;
+        this.conditionalGet = conditionalGet;
     }
 
     @GetMapping("/properties/{id}/valuations")
     @Operation(summary = "Get the market value history of a property by ID")
-    public ResponseEntity<List<PropertyValueHistoryResponseDTO>> getPropertyValuationHistory(@PathVariable Long id) {
+    public ResponseEntity<List<PropertyValueHistoryResponseDTO>> getPropertyValuationHistory(@PathVariable Long id, WebRequest request) {
         List<PropertyValueHistoryResponseDTO> propertyValuation = historyService.getPropertyValueHistory(id);
-        return ResponseEntity.ok(propertyValuation);
+        return conditionalGet.respond(request, HISTORY_CACHE, propertyValuation);
     }
 
     @GetMapping("/properties/{id}/financials")
     @Operation(summary = "Get the financials history of a property by ID")
-    public ResponseEntity<List<PropertyFinancialsHistoryResponseDTO>> getPropertyFinancialsHistory(@PathVariable Long id) {
+    public ResponseEntity<List<PropertyFinancialsHistoryResponseDTO>> getPropertyFinancialsHistory(@PathVariable Long id, WebRequest request) {
         List<PropertyFinancialsHistoryResponseDTO> propertyFinancials = historyService.getPropertyFinancialsHistory(id);
-        return ResponseEntity.ok(propertyFinancials);
+        return conditionalGet.respond(request, HISTORY_CACHE, propertyFinancials);
     }
 }
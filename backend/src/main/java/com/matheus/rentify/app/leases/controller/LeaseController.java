@@ -5,15 +5,18 @@ import com.matheus.rentify.app.leases.dto.request.LeaseTerminationRequestDTO;
 import com.matheus.rentify.app.leases.dto.response.LeaseResponseDTO;
 import com.matheus.rentify.app.leases.model.LeaseStatusEnum;
 import com.matheus.rentify.app.leases.service.LeaseService;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -53,6 +56,20 @@ public class LeaseController {
         return ResponseEntity.ok(leases);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get leases one keyset page at a time, filtered by status, tenant, landlord profile or start date range")
+    public ResponseEntity<CursorPageResponseDTO<LeaseResponseDTO>> getLeasePage(
+            @RequestParam(required = false) LeaseStatusEnum status,
+            @RequestParam(required = false) Long tenantId,
+            @RequestParam(required = false) Long landlordProfileId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDateTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(leaseService.getPage(status, tenantId, landlordProfileId, startDateFrom, startDateTo, cursor, size));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a single lease by ID")
     public ResponseEntity<LeaseResponseDTO> getLeaseById(@PathVariable Long id) {
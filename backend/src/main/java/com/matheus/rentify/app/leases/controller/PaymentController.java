@@ -3,12 +3,15 @@ package com.matheus.rentify.app.leases.controller;
 import com.matheus.rentify.app.leases.dto.request.PaymentRequestDTO;
 import com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO;
 import com.matheus.rentify.app.leases.service.PaymentService;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -51,6 +54,24 @@ public class PaymentController {
         return ResponseEntity.ok(payments);
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Get all payments one keyset page at a time, newest first")
+    public ResponseEntity<CursorPageResponseDTO<PaymentResponseDTO>> getPaymentPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(paymentService.getPage(cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream the full payment ledger as newline-delimited JSON, newest first")
+    public ResponseEntity<StreamingResponseBody> exportPayments() {
+        StreamingResponseBody body = paymentService::exportAll;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a single payment by ID")
     public ResponseEntity<PaymentResponseDTO> getPaymentById(@PathVariable Long id) {
@@ -10,13 +10,43 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "leases")
+@Table(
+        name = "leases",
+        indexes = @Index(name = "idx_leases_status_end_date", columnList = "status, end_date")
+)
+@NamedEntityGraph(
+        name = Lease.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "property", subgraph = "cityWithState"),
+                @NamedAttributeNode(value = "tenant", subgraph = "cityWithState"),
+                @NamedAttributeNode("landlordProfile")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "cityWithState", attributeNodes = @NamedAttributeNode(value = "city", subgraph = "state")),
+                @NamedSubgraph(name = "state", attributeNodes = @NamedAttributeNode("state"))
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Lease {
 
+    /**
+     * Fetch graph covering everything {@code LeaseMapper.toResponseDTO} reads,
+     * so list queries load each lease and its related rows in a single select.
+     */
+    public static final String DETAILS_GRAPH = "Lease.withDetails";
+
+    /**
+     * Same graph as {@link #DETAILS_GRAPH}, expressed as attribute paths for fluent queries.
+     */
+    public static final String[] DETAILS_GRAPH_PATHS = {
+            "property.city.state",
+            "tenant.city.state",
+            "landlordProfile"
+    };
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "lease_id", nullable = false)
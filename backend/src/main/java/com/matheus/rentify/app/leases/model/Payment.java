@@ -6,8 +6,20 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * {@code idx_payments_lease_reference_period} starts with {@code lease_fk}, so it also backs the
+ * foreign key: MySQL drops the single-column index it created implicitly for {@code lease_fk} once
+ * this one exists. H2 keeps both, which only affects the test schema.
+ */
 @Entity
-@Table(name = "payments")
+@Table(
+        name = "payments",
+        indexes = {
+                @Index(name = "idx_payments_reference_period", columnList = "reference_year, reference_month, lease_fk"),
+                @Index(name = "idx_payments_lease_reference_period", columnList = "lease_fk, reference_year, reference_month"),
+                @Index(name = "idx_payments_payment_date", columnList = "payment_date, payment_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
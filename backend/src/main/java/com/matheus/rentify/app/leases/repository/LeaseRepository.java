@@ -2,31 +2,201 @@ package com.matheus.rentify.app.leases.repository;
 
 import com.matheus.rentify.app.leases.model.Lease;
 import com.matheus.rentify.app.leases.model.LeaseStatusEnum;
+import com.matheus.rentify.app.reports.dto.response.LatePaymentResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * Every list query loads {@link Lease#DETAILS_GRAPH} so mapping the results to DTOs
+ * does not trigger extra selects per row.
+ */
 @Repository
-public interface LeaseRepository extends JpaRepository<Lease, Long> {
+public interface LeaseRepository extends JpaRepository<Lease, Long>, JpaSpecificationExecutor<Lease> {
     boolean existsByPropertyId(Long id);
     boolean existsByTenantId(Long id);
+
+    @EntityGraph(Lease.DETAILS_GRAPH)
     List<Lease> findAllByStatus(LeaseStatusEnum status);
+
+    @EntityGraph(Lease.DETAILS_GRAPH)
     List<Lease> findByLandlordProfileId(Long landlordProfileId);
+
+    @EntityGraph(Lease.DETAILS_GRAPH)
     List<Lease> findByEndDateBetweenAndStatus(LocalDate start, LocalDate end, LeaseStatusEnum status);
+
+    @EntityGraph(Lease.DETAILS_GRAPH)
     List<Lease> findByTenantId(Long tenantId);
+
+    @EntityGraph(Lease.DETAILS_GRAPH)
     List<Lease> findByTenantIdAndStatus(Long tenantId, LeaseStatusEnum status);
 
-    @Query("SELECT l FROM Lease l WHERE l.endDate BETWEEN :startDate AND :endDate AND l.status = :status")
-    List<Lease> findExpiringLeases(
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("status") LeaseStatusEnum status
-    );
+    @Override
+    @EntityGraph(Lease.DETAILS_GRAPH)
+    List<Lease> findAll();
+
+    @Override
+    @EntityGraph(Lease.DETAILS_GRAPH)
+    List<Lease> findAll(Specification<Lease> spec);
+
+    /**
+     * The dashboard's recent-activity feed in one statement: the latest payments, the latest
+     * maintenance requests and the active leases ending between {@code today} and {@code horizon},
+     * each branch limited through its own index, then merged, ordered and limited again.
+     *
+     * Columns: activity type, detail (tenant name or maintenance status), subtitle (address or
+     * service description), amount, date, related id.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT a.activity_type, a.detail, a.subtitle, a.amount, a.activity_date, a.related_id
+            FROM (
+                SELECT * FROM (
+                    SELECT 'PAYMENT' AS activity_type, 0 AS sort_rank, t.full_name AS detail, pr.address AS subtitle,
+                           p.amount_paid AS amount, p.payment_date AS activity_date, p.payment_id AS related_id
+                    FROM payments p
+                    JOIN leases l ON l.lease_id = p.lease_fk
+                    JOIN tenants t ON t.tenant_id = l.tenant_fk
+                    JOIN properties pr ON pr.property_id = l.property_fk
+                    ORDER BY p.payment_date DESC, p.payment_id DESC
+                    LIMIT :limit
+                ) recent_payments
+                UNION ALL
+                SELECT * FROM (
+                    SELECT 'MAINTENANCE' AS activity_type, 1 AS sort_rank, mj.maintenance_status AS detail, mj.service_description AS subtitle,
+                           mj.total_cost AS amount, mj.request_date AS activity_date, mj.job_id AS related_id
+                    FROM maintenance_jobs mj
+                    WHERE mj.request_date IS NOT NULL
+                    ORDER BY mj.request_date DESC, mj.job_id DESC
+                    LIMIT :limit
+                ) recent_jobs
+                UNION ALL
+                SELECT * FROM (
+                    SELECT 'EXPIRING_LEASE' AS activity_type, 2 AS sort_rank, NULL AS detail, pr.address AS subtitle,
+                           NULL AS amount, l.end_date AS activity_date, l.lease_id AS related_id
+                    FROM leases l
+                    JOIN properties pr ON pr.property_id = l.property_fk
+                    WHERE l.status = 'ACTIVE' AND l.end_date BETWEEN :today AND :horizon
+                    ORDER BY l.end_date DESC, l.lease_id DESC
+                    LIMIT :limit
+                ) expiring_leases
+            ) a
+            ORDER BY a.activity_date DESC, a.sort_rank, a.related_id DESC
+            LIMIT :limit
+            """)
+    List<Object[]> findRecentActivityRows(@Param("today") LocalDate today, @Param("horizon") LocalDate horizon, @Param("limit") int limit);
 
     @Query("SELECT COUNT(l) FROM Lease l WHERE l.startDate <= :date AND (l.moveOutDate IS NULL OR l.moveOutDate > :date)")
     long countActiveLeasesOnDate(@Param("date") LocalDate date);
+
+    /**
+     * Start and move-out months of every lease active at the end of at least one month between
+     * {@code firstMonthEnd} and {@code lastMonthEnd}, as epoch-month indexes
+     * ({@code year * 12 + month - 1}). The move-out month is {@code null} for leases still running.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT YEAR(l.startDate) * 12 + MONTH(l.startDate) - 1,
+               YEAR(l.moveOutDate) * 12 + MONTH(l.moveOutDate) - 1
+        FROM Lease l
+        WHERE l.startDate <= :lastMonthEnd
+          AND (l.moveOutDate IS NULL OR l.moveOutDate > :firstMonthEnd)
+    """)
+    Stream<Object[]> streamOccupancyIntervals(@Param("firstMonthEnd") LocalDate firstMonthEnd,
+                                              @Param("lastMonthEnd") LocalDate lastMonthEnd);
+
+    /**
+     * Leases with the given status that have no payment for the reference month, projected
+     * straight into the report row. Payments are matched with a NOT EXISTS anti-join on
+     * {@code (lease_fk, reference_year, reference_month)}, so no lease or payment entity is loaded.
+     * Shared by {@link #findLatePayments} and {@link #streamLatePayments}.
+     */
+    String LATE_PAYMENTS_QUERY = """
+        SELECT new com.matheus.rentify.app.reports.dto.response.LatePaymentResponseDTO(
+            l.id, pr.address, t.fullName, l.paymentDueDay, CAST(:month AS Integer), l.baseRentValue,
+            CASE WHEN :daysSinceMonthStart + 1 - l.paymentDueDay > 0
+                 THEN CAST(:daysSinceMonthStart + 1 - l.paymentDueDay AS Long)
+                 ELSE 0L END)
+        FROM Lease l
+        JOIN l.property pr
+        JOIN l.tenant t
+        WHERE l.status = :status
+          AND l.paymentDueDay <= :lastOverdueDueDay
+          AND l.id > :afterLeaseId
+          AND NOT EXISTS (
+              SELECT 1 FROM Payment p
+              WHERE p.lease = l
+                AND p.referenceYear = :year
+                AND p.referenceMonth = :month)
+        ORDER BY l.id ASC
+    """;
+
+    /**
+     * @param lastOverdueDueDay   Only leases whose due day is at most this value are overdue.
+     * @param daysSinceMonthStart Days from the first day of the reference month to today; the
+     *                            days late are this value minus {@code paymentDueDay - 1}, floored at 0.
+     * @param afterLeaseId        Keyset position; only leases with a greater id are returned.
+     * @see #LATE_PAYMENTS_QUERY
+     */
+    @Query(LATE_PAYMENTS_QUERY)
+    List<LatePaymentResponseDTO> findLatePayments(
+            @Param("status") LeaseStatusEnum status,
+            @Param("month") int month,
+            @Param("year") int year,
+            @Param("lastOverdueDueDay") int lastOverdueDueDay,
+            @Param("daysSinceMonthStart") long daysSinceMonthStart,
+            @Param("afterLeaseId") long afterLeaseId,
+            Pageable limit
+    );
+
+    /**
+     * The rows of {@link #findLatePayments} in lease id order, read through a database cursor.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(LATE_PAYMENTS_QUERY)
+    Stream<LatePaymentResponseDTO> streamLatePayments(
+            @Param("status") LeaseStatusEnum status,
+            @Param("month") int month,
+            @Param("year") int year,
+            @Param("lastOverdueDueDay") int lastOverdueDueDay,
+            @Param("daysSinceMonthStart") long daysSinceMonthStart,
+            @Param("afterLeaseId") long afterLeaseId
+    );
+
+    /**
+     * One row per (lease, paid reference month) for every lease with the given status, plus a row
+     * with null month columns for leases without payments in the given years. Rows are ordered by
+     * lease id so callers can fold them into one result per lease in a single pass.
+     *
+     * Columns: lease id, property address, tenant name, due day, base rent, start date,
+     * payment reference year, payment reference month.
+     */
+    @Query("""
+        SELECT l.id, pr.address, t.fullName, l.paymentDueDay, l.baseRentValue, l.startDate,
+               p.referenceYear, p.referenceMonth
+        FROM Lease l
+        JOIN l.property pr
+        JOIN l.tenant t
+        LEFT JOIN Payment p ON p.lease = l
+             AND p.referenceYear BETWEEN :fromYear AND :toYear
+        WHERE l.status = :status
+        ORDER BY l.id ASC
+    """)
+    List<Object[]> findPaidMonthsByLease(
+            @Param("status") LeaseStatusEnum status,
+            @Param("fromYear") int fromYear,
+            @Param("toYear") int toYear
+    );
 }
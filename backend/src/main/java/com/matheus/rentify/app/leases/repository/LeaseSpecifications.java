@@ -0,0 +1,56 @@
+package com.matheus.rentify.app.leases.repository;
+
+import com.matheus.rentify.app.leases.model.Lease;
+import com.matheus.rentify.app.leases.model.LeaseStatusEnum;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Composable filters for lease listings. Each factory returns a no-op specification
+ * when its argument is {@code null}, so callers can chain optional filters freely.
+ */
+public final class LeaseSpecifications {
+
+    private LeaseSpecifications() {
+    }
+
+    public static Specification<Lease> withFilters(LeaseStatusEnum status,
+                                                   Long tenantId,
+                                                   Long landlordProfileId,
+                                                   LocalDate startDateFrom,
+                                                   LocalDate startDateTo) {
+        return Specification.where(hasStatus(status))
+                .and(hasTenant(tenantId))
+                .and(hasLandlordProfile(landlordProfileId))
+                .and(startsOnOrAfter(startDateFrom))
+                .and(startsOnOrBefore(startDateTo));
+    }
+
+    public static Specification<Lease> hasStatus(LeaseStatusEnum status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Lease> hasTenant(Long tenantId) {
+        return (root, query, cb) -> tenantId == null ? null : cb.equal(root.get("tenant").get("id"), tenantId);
+    }
+
+    public static Specification<Lease> hasLandlordProfile(Long landlordProfileId) {
+        return (root, query, cb) -> landlordProfileId == null ? null : cb.equal(root.get("landlordProfile").get("id"), landlordProfileId);
+    }
+
+    public static Specification<Lease> startsOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.greaterThanOrEqualTo(root.get("startDate"), date);
+    }
+
+    public static Specification<Lease> startsOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.lessThanOrEqualTo(root.get("startDate"), date);
+    }
+
+    /**
+     * Keyset predicate for listings ordered by descending id.
+     */
+    public static Specification<Lease> idBefore(Long id) {
+        return (root, query, cb) -> id == null ? null : cb.lessThan(root.get("id"), id);
+    }
+}
@@ -1,19 +1,111 @@
 package com.matheus.rentify.app.leases.repository;
 
+import com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO;
 import com.matheus.rentify.app.leases.model.Payment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
-    List<Payment> findByLeaseIdOrderByPaymentDateDesc(Long id);
-    List<Payment> findTop5ByOrderByPaymentDateDesc();
-    List<Payment> findByLeaseTenantIdOrderByPaymentDateDesc(Long tenantId);
+    /*
+     * Read-only listing paths. They select straight into PaymentResponseDTO, so no Payment
+     * or Lease entity is loaded into (or dirty-checked by) the persistence context.
+     */
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO(
+            p.id, p.lease.id, p.amountPaid, p.paymentDate, p.referenceMonth, p.referenceYear,
+            p.lateFees, p.paymentMethod, p.notes)
+        FROM Payment p
+        WHERE p.lease.id = :leaseId
+        ORDER BY p.paymentDate DESC, p.id DESC
+    """)
+    List<PaymentResponseDTO> findResponsesByLeaseId(@Param("leaseId") Long leaseId);
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO(
+            p.id, l.id, p.amountPaid, p.paymentDate, p.referenceMonth, p.referenceYear,
+            p.lateFees, p.paymentMethod, p.notes)
+        FROM Payment p
+        JOIN p.lease l
+        WHERE l.tenant.id = :tenantId
+        ORDER BY p.paymentDate DESC, p.id DESC
+    """)
+    List<PaymentResponseDTO> findResponsesByTenantId(@Param("tenantId") Long tenantId);
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO(
+            p.id, l.id, p.amountPaid, p.paymentDate, p.referenceMonth, p.referenceYear,
+            p.lateFees, p.paymentMethod, p.notes)
+        FROM Payment p
+        JOIN p.lease l
+        WHERE l.landlordProfile.id = :landlordId
+        ORDER BY p.paymentDate DESC, p.id DESC
+    """)
+    List<PaymentResponseDTO> findResponsesByLandlordProfileId(@Param("landlordId") Long landlordId);
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO(
+            p.id, p.lease.id, p.amountPaid, p.paymentDate, p.referenceMonth, p.referenceYear,
+            p.lateFees, p.paymentMethod, p.notes)
+        FROM Payment p
+        ORDER BY p.paymentDate DESC, p.id DESC
+    """)
+    List<PaymentResponseDTO> findAllResponses();
+
+    /*
+     * Keyset pages over the unfiltered listing, in the same (paymentDate DESC, id DESC) order.
+     * The pageable only carries the row limit; no count query is issued for a List result.
+     */
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO(
+            p.id, p.lease.id, p.amountPaid, p.paymentDate, p.referenceMonth, p.referenceYear,
+            p.lateFees, p.paymentMethod, p.notes)
+        FROM Payment p
+        ORDER BY p.paymentDate DESC, p.id DESC
+    """)
+    List<PaymentResponseDTO> findFirstResponsePage(Pageable limit);
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO(
+            p.id, p.lease.id, p.amountPaid, p.paymentDate, p.referenceMonth, p.referenceYear,
+            p.lateFees, p.paymentMethod, p.notes)
+        FROM Payment p
+        WHERE p.paymentDate < :lastDate
+           OR (p.paymentDate = :lastDate AND p.id < :lastId)
+        ORDER BY p.paymentDate DESC, p.id DESC
+    """)
+    List<PaymentResponseDTO> findResponsePageAfter(@Param("lastDate") LocalDate lastDate,
+                                                   @Param("lastId") Long lastId,
+                                                   Pageable limit);
+
+    /**
+     * Streams the whole ledger in listing order. Rows are fetched from the driver in
+     * batches of the configured fetch size, so the caller must consume the stream inside
+     * a transaction and close it. On MySQL the fetch size is only honoured with
+     * {@code useCursorFetch=true}, which {@code application.properties} sets on the pool.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO(
+            p.id, p.lease.id, p.amountPaid, p.paymentDate, p.referenceMonth, p.referenceYear,
+            p.lateFees, p.paymentMethod, p.notes)
+        FROM Payment p
+        ORDER BY p.paymentDate DESC, p.id DESC
+    """)
+    Stream<PaymentResponseDTO> streamAllResponses();
 
     @Query("SELECT SUM(p.amountPaid) FROM Payment p WHERE p.referenceMonth = :month AND p.referenceYear = :year")
     BigDecimal sumRevenueByMonthAndYear(@Param("month") int month, @Param("year") int year);
@@ -21,31 +113,48 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @Query("SELECT p.referenceYear, p.referenceMonth, SUM(p.amountPaid) FROM Payment p GROUP BY p.referenceYear, p.referenceMonth")
     List<Object[]> findMonthlyRevenueGrouped();
 
-    @Query("SELECT p.lease.id FROM Payment p WHERE p.referenceMonth = :month AND p.referenceYear = :year")
-    List<Long> findLeaseIdsWithPaymentInMonth(@Param("month") int month, @Param("year") int year);
-
+    /**
+     * Monthly income of a landlord between two dates. The bounds are a half-open range on
+     * {@code payment_date} rather than a {@code YEAR(...)} call, so the date index applies.
+     */
     @Query("""
-        SELECT p FROM Payment p
-        JOIN FETCH p.lease l
-        LEFT JOIN FETCH l.property prop
-        LEFT JOIN FETCH l.tenant t
-        WHERE l.landlordProfile.id = :landlordId
-        ORDER BY p.paymentDate DESC
+        SELECT
+            MONTH(p.paymentDate) as mes,
+            SUM(p.amountPaid) as total
+        FROM Payment p
+        WHERE p.lease.landlordProfile.id = :landlordId
+          AND p.paymentDate >= :fromDate
+          AND p.paymentDate < :toDate
+        GROUP BY MONTH(p.paymentDate)
+        ORDER BY MONTH(p.paymentDate) ASC
     """)
-    List<Payment> findByLandlordProfileId(@Param("landlordId") Long landlordId);
+    List<Object[]> findMonthlyIncomeByLandlordBetween(
+            @Param("landlordId") Long landlordId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
 
+    /**
+     * Streams the payments behind a landlord's annual income between two dates, oldest first, as
+     * {@code paymentDate, referenceYear, referenceMonth, leaseId, propertyAddress, tenantName,
+     * amountPaid, lateFees, paymentMethod}. Same cursor rules as {@link #streamAllResponses()}.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
     @Query("""
-        SELECT 
-            MONTH(p.paymentDate) as mes, 
-            SUM(p.amountPaid) as total 
-        FROM Payment p 
-        WHERE p.lease.landlordProfile.id = :landlordId 
-          AND YEAR(p.paymentDate) = :year 
-        GROUP BY MONTH(p.paymentDate)
-        ORDER BY MONTH(p.paymentDate) ASC
+        SELECT p.paymentDate, p.referenceYear, p.referenceMonth, l.id, pr.address, t.fullName,
+               p.amountPaid, p.lateFees, p.paymentMethod
+        FROM Payment p
+        JOIN p.lease l
+        JOIN l.property pr
+        JOIN l.tenant t
+        WHERE l.landlordProfile.id = :landlordId
+          AND p.paymentDate >= :fromDate
+          AND p.paymentDate < :toDate
+        ORDER BY p.paymentDate ASC, p.id ASC
     """)
-    List<Object[]> findMonthlyIncomeByLandlordAndYear(
+    Stream<Object[]> streamIncomeByLandlordBetween(
             @Param("landlordId") Long landlordId,
-            @Param("year") int year
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
     );
 }
\ No newline at end of file
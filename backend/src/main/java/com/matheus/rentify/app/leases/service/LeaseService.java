@@ -7,12 +7,21 @@ import com.matheus.rentify.app.leases.dto.response.LeaseResponseDTO;
 import com.matheus.rentify.app.leases.mapper.LeaseMapper;
 import com.matheus.rentify.app.leases.model.*;
 import com.matheus.rentify.app.leases.repository.LeaseRepository;
+import com.matheus.rentify.app.leases.repository.LeaseSpecifications;
 import com.matheus.rentify.app.properties.model.Property;
 import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
 import com.matheus.rentify.app.properties.repository.PropertyRepository;
-import com.matheus.rentify.app.shared.util.MonetaryConverter;
+import com.matheus.rentify.app.reports.event.ReportDataChangedEvent;
+import com.matheus.rentify.app.reports.event.ReportDataSource;
+import com.matheus.rentify.app.reports.service.DashboardCountersService;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
+import com.matheus.rentify.app.shared.service.AmountInWordsService;
+import com.matheus.rentify.app.shared.util.CursorCodec;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,20 +31,31 @@ import java.util.List;
 @Service
 public class LeaseService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final LeaseRepository leaseRepository;
     private final PropertyRepository propertyRepository;
     private final LeaseMapper leaseMapper;
     private final LeaseGuarantorService leaseGuarantorService;
+    private final DashboardCountersService dashboardCountersService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AmountInWordsService amountInWordsService;
 
     @Autowired
     public LeaseService(LeaseRepository leaseRepository,
                         PropertyRepository propertyRepository,
                         LeaseMapper leaseMapper,
-                        LeaseGuarantorService leaseGuarantorService) {
+                        LeaseGuarantorService leaseGuarantorService,
+                        DashboardCountersService dashboardCountersService,
+                        AmountInWordsService amountInWordsService,
+                        ApplicationEventPublisher eventPublisher) {
         this.leaseRepository = leaseRepository;
         this.propertyRepository = propertyRepository;
         this.leaseMapper = leaseMapper;
         this.leaseGuarantorService = leaseGuarantorService;
+        this.dashboardCountersService = dashboardCountersService;
+        this.amountInWordsService = amountInWordsService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -51,9 +71,12 @@ public class LeaseService {
         updateMonetaryWords(lease);
 
         Lease savedLease = leaseRepository.save(lease);
+        dashboardCountersService.recordLeaseIntervalChange(null, null, savedLease.getStartDate(), savedLease.getMoveOutDate());
 
         property.setStatus(PropertyStatusEnum.RENTED);
         propertyRepository.save(property);
+        dashboardCountersService.recordPropertyStatusChange(PropertyStatusEnum.AVAILABLE, PropertyStatusEnum.RENTED);
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.LEASES, ReportDataSource.PROPERTIES));
 
         if (requestDTO.guaranteeType() == GuaranteeTypeEnum.GUARANTOR) {
             if (requestDTO.guarantorId() == null) {
@@ -78,25 +101,46 @@ public class LeaseService {
 
     @Transactional(readOnly = true)
     public List<LeaseResponseDTO> getAll(LeaseStatusEnum status, Long tenantId, Long landlordProfileId) {
-        List<Lease> leases;
+        Specification<Lease> filters = LeaseSpecifications.withFilters(status, tenantId, landlordProfileId, null, null);
 
-        if (tenantId != null) {
-            leases = leaseRepository.findByTenantId(tenantId);
-        } else if (landlordProfileId != null) {
-            leases = leaseRepository.findByLandlordProfileId(landlordProfileId);
-        } else {
-            leases = leaseRepository.findAll();
-        }
-
-        if (status != null) {
-            leases = leases.stream()
-                    .filter(l -> l.getStatus() == status)
-                    .toList();
-        }
+        return leaseRepository.findAll(filters)
+                .stream()
+                .map(leaseMapper::toResponseDTO)
+                .toList();
+    }
 
-        return leases.stream()
+    /**
+     * Keyset-paginated lease listing, newest first. Filters run in SQL and at most
+     * {@code size} rows are loaded per call, whatever the total number of leases.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<LeaseResponseDTO> getPage(LeaseStatusEnum status,
+                                                          Long tenantId,
+                                                          Long landlordProfileId,
+                                                          LocalDate startDateFrom,
+                                                          LocalDate startDateTo,
+                                                          String cursor,
+                                                          int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Specification<Lease> filters = LeaseSpecifications.withFilters(status, tenantId, landlordProfileId, startDateFrom, startDateTo)
+                .and(LeaseSpecifications.idBefore(CursorCodec.decode(cursor)));
+
+        List<Lease> rows = leaseRepository.findBy(filters, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+                .project(Lease.DETAILS_GRAPH_PATHS)
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Lease> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).getId()) : null;
+
+        List<LeaseResponseDTO> content = page.stream()
                 .map(leaseMapper::toResponseDTO)
                 .toList();
+
+        return new CursorPageResponseDTO<>(content, nextCursor, hasNext);
     }
 
     @Transactional(readOnly = true)
@@ -108,6 +152,7 @@ public class LeaseService {
     @Transactional
     public LeaseResponseDTO updateLease(Long id, LeaseRequestDTO requestDTO) {
         Lease existingLease = findLeaseByIdOrThrow(id);
+        LocalDate previousStartDate = existingLease.getStartDate();
 
         leaseMapper.updateEntityFromDto(requestDTO, existingLease);
 
@@ -115,6 +160,8 @@ public class LeaseService {
         updateMonetaryWords(existingLease);
 
         Lease updatedLease = leaseRepository.save(existingLease);
+        dashboardCountersService.recordLeaseIntervalChange(previousStartDate, updatedLease.getMoveOutDate(), updatedLease.getStartDate(), updatedLease.getMoveOutDate());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.LEASES));
 
         // NOTE: Updating the Guarantor link on update is complex (remove old? add new?).
         // For now, we assume guarantor changes are handled via the specific /lease-guarantors endpoints.
@@ -131,16 +178,21 @@ public class LeaseService {
         }
 
         Property property = lease.getProperty();
+        PropertyStatusEnum previousPropertyStatus = property.getStatus();
         if (requestDTO.moveOutCondition() == MoveOutConditionEnum.NEEDS_REPAIRS) {
             property.setStatus(PropertyStatusEnum.UNDER_MAINTENANCE);
         } else {
             property.setStatus(PropertyStatusEnum.AVAILABLE);
         }
         propertyRepository.save(property);
+        dashboardCountersService.recordPropertyStatusChange(previousPropertyStatus, property.getStatus());
 
+        LocalDate previousMoveOutDate = lease.getMoveOutDate();
         leaseMapper.terminateLease(requestDTO, lease);
 
         leaseRepository.save(lease);
+        dashboardCountersService.recordLeaseIntervalChange(lease.getStartDate(), previousMoveOutDate, lease.getStartDate(), lease.getMoveOutDate());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.LEASES, ReportDataSource.PROPERTIES));
     }
 
     private Lease findLeaseByIdOrThrow(Long id) {
@@ -160,22 +212,8 @@ public class LeaseService {
     }
 
     private void updateMonetaryWords(Lease lease) {
-        if (lease.getBaseRentValue() != null) {
-            lease.setRentValueInWords(MonetaryConverter.convert(lease.getBaseRentValue()));
-        } else {
-            lease.setRentValueInWords(null);
-        }
-
-        if (lease.getSecurityDepositValue() != null) {
-            lease.setDepositValueInWords(MonetaryConverter.convert(lease.getSecurityDepositValue()));
-        } else {
-            lease.setDepositValueInWords(null);
-        }
-
-        if (lease.getPaintingFeeValue() != null) {
-            lease.setPaintingFeeInWords(MonetaryConverter.convert(lease.getPaintingFeeValue()));
-        } else {
-            lease.setPaintingFeeInWords(null);
-        }
+        lease.setRentValueInWords(amountInWordsService.inWords(lease.getBaseRentValue()));
+        lease.setDepositValueInWords(amountInWordsService.inWords(lease.getSecurityDepositValue()));
+        lease.setPaintingFeeInWords(amountInWordsService.inWords(lease.getPaintingFeeValue()));
     }
 }
\ No newline at end of file
@@ -1,31 +1,58 @@
 package com.matheus.rentify.app.leases.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.matheus.rentify.app.leases.dto.request.PaymentRequestDTO;
 import com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO;
 import com.matheus.rentify.app.leases.mapper.PaymentMapper;
 import com.matheus.rentify.app.leases.model.Payment;
 import com.matheus.rentify.app.leases.repository.LeaseRepository;
 import com.matheus.rentify.app.leases.repository.PaymentRepository;
+import com.matheus.rentify.app.reports.event.ReportDataChangedEvent;
+import com.matheus.rentify.app.reports.event.ReportDataSource;
+import com.matheus.rentify.app.reports.service.DashboardCountersService;
+import com.matheus.rentify.app.reports.service.FinancialRollupService;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
+import com.matheus.rentify.app.shared.util.CursorCodec;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class PaymentService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final PaymentRepository paymentRepository;
     private final LeaseRepository leaseRepository;
     private final PaymentMapper paymentMapper;
+    private final DashboardCountersService dashboardCountersService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FinancialRollupService financialRollupService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public PaymentService(PaymentRepository paymentRepository, LeaseRepository leaseRepository, PaymentMapper paymentMapper) {
+    public PaymentService(PaymentRepository paymentRepository, LeaseRepository leaseRepository, PaymentMapper paymentMapper, DashboardCountersService dashboardCountersService, FinancialRollupService financialRollupService, ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
         this.paymentRepository = paymentRepository;
         this.leaseRepository = leaseRepository;
         this.paymentMapper = paymentMapper;
+        this.dashboardCountersService = dashboardCountersService;
+        this.financialRollupService = financialRollupService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -36,30 +63,76 @@ public class PaymentService {
 
         Payment payment = paymentMapper.toEntity(requestDTO);
         Payment savedPayment = paymentRepository.save(payment);
+        dashboardCountersService.recordPaymentChange(null, null, referenceMonthOf(savedPayment), savedPayment.getAmountPaid());
+        financialRollupService.recordPaymentChange(null, null, referenceMonthOf(savedPayment), savedPayment.getAmountPaid());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.PAYMENTS));
 
         return paymentMapper.toResponseDTO(savedPayment);
     }
 
     @Transactional(readOnly = true)
     public List<PaymentResponseDTO> getAll(Long leaseId, Long tenantId, Long landlordProfileId) {
-        List<Payment> payments;
-
         if (leaseId != null) {
             if(!leaseRepository.existsById(leaseId)) {
                 throw new EntityNotFoundException("Lease not found with ID: " + leaseId);
             }
-            payments = paymentRepository.findByLeaseIdOrderByPaymentDateDesc(leaseId);
+            return paymentRepository.findResponsesByLeaseId(leaseId);
         } else if (tenantId != null) {
-            payments = paymentRepository.findByLeaseTenantIdOrderByPaymentDateDesc(tenantId);
+            return paymentRepository.findResponsesByTenantId(tenantId);
         } else if (landlordProfileId != null) {
-            payments = paymentRepository.findByLandlordProfileId(landlordProfileId);
-        } else {
-            payments = paymentRepository.findAll(Sort.by(Sort.Direction.DESC, "paymentDate"));
+            return paymentRepository.findResponsesByLandlordProfileId(landlordProfileId);
         }
 
-        return payments.stream()
-                .map(paymentMapper::toResponseDTO)
-                .toList();
+        return paymentRepository.findAllResponses();
+    }
+
+    /**
+     * Keyset-paginated view of the whole ledger, newest payment first. At most
+     * {@code size} rows are read per call, whatever the number of payments.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<PaymentResponseDTO> getPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        CursorCodec.DateKey lastSeen = CursorCodec.decodeDateKey(cursor);
+
+        List<PaymentResponseDTO> rows = lastSeen == null
+                ? paymentRepository.findFirstResponsePage(limit)
+                : paymentRepository.findResponsePageAfter(lastSeen.date(), lastSeen.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PaymentResponseDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        PaymentResponseDTO last = hasNext ? page.get(page.size() - 1) : null;
+        String nextCursor = last != null ? CursorCodec.encode(last.paymentDate(), last.id()) : null;
+
+        return new CursorPageResponseDTO<>(page, nextCursor, hasNext);
+    }
+
+    /**
+     * Writes every payment to {@code out} as newline-delimited JSON, in listing order.
+     * Rows are read through a database cursor and written as they arrive, so memory use
+     * does not grow with the size of the ledger.
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream out) throws IOException {
+        try (Stream<PaymentResponseDTO> payments = paymentRepository.streamAllResponses();
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            int written = 0;
+            Iterator<PaymentResponseDTO> rows = payments.iterator();
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+            if (written > 0) {
+                out.write('\n');
+            }
+        }
     }
 
     @Transactional(readOnly = true)
@@ -71,8 +144,14 @@ public class PaymentService {
     @Transactional
     public PaymentResponseDTO updatePayment(Long id, PaymentRequestDTO requestDTO) {
         Payment payment = findPaymentByIdOrThrow(id);
+        YearMonth previousReferenceMonth = referenceMonthOf(payment);
+        BigDecimal previousAmount = payment.getAmountPaid();
+
         paymentMapper.updateEntityFromDto(requestDTO, payment);
         Payment updatedPayment = paymentRepository.save(payment);
+        dashboardCountersService.recordPaymentChange(previousReferenceMonth, previousAmount, referenceMonthOf(updatedPayment), updatedPayment.getAmountPaid());
+        financialRollupService.recordPaymentChange(previousReferenceMonth, previousAmount, referenceMonthOf(updatedPayment), updatedPayment.getAmountPaid());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.PAYMENTS));
         return paymentMapper.toResponseDTO(updatedPayment);
     }
 
@@ -80,6 +159,13 @@ public class PaymentService {
     public void deletePayment(Long id) {
         Payment payment = findPaymentByIdOrThrow(id);
         paymentRepository.delete(payment);
+        dashboardCountersService.recordPaymentChange(referenceMonthOf(payment), payment.getAmountPaid(), null, null);
+        financialRollupService.recordPaymentChange(referenceMonthOf(payment), payment.getAmountPaid(), null, null);
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.PAYMENTS));
+    }
+
+    private YearMonth referenceMonthOf(Payment payment) {
+        return YearMonth.of(payment.getReferenceYear(), payment.getReferenceMonth());
     }
 
     private Payment findPaymentByIdOrThrow(Long id) {
@@ -7,7 +7,10 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "maintenance_jobs")
+@Table(
+        name = "maintenance_jobs",
+        indexes = @Index(name = "idx_maintenance_jobs_request_date", columnList = "request_date, job_id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,17 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PropertyRepository extends JpaRepository<Property, Long> {
-    @Query("SELECT COUNT(p) FROM Property p")
-    long countTotalProperties();
-
-    @Query("SELECT COUNT(p) FROM Property p WHERE p.status = 'AVAILABLE'")
-    long countAvailableProperties();
-
-    @Query("SELECT COUNT(p) FROM Property p WHERE p.status = 'RENTED'")
-    long countRentedProperties();
-
-    @Query("SELECT COUNT(p) FROM Property p WHERE p.status = 'UNDER_MAINTENANCE'")
-    long countMaintenanceProperties();
+    /**
+     * Status histogram in a single scan of {@code properties}.
+     * Each row is {@code [PropertyStatusEnum status, Long count]}; statuses without properties are absent.
+     */
+    @Query("SELECT p.status, COUNT(p) FROM Property p GROUP BY p.status")
+    List<Object[]> countPropertiesGroupedByStatus();
 }
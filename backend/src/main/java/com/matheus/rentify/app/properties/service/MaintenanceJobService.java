@@ -4,14 +4,22 @@ import com.matheus.rentify.app.properties.dto.request.MaintenanceJobRequestDTO;
 import com.matheus.rentify.app.properties.dto.response.MaintenanceJobResponseDTO;
 import com.matheus.rentify.app.properties.mapper.MaintenanceJobMapper;
 import com.matheus.rentify.app.properties.model.MaintenanceJob;
+import com.matheus.rentify.app.properties.model.MaintenanceStatusEnum;
 import com.matheus.rentify.app.properties.repository.MaintenanceJobRepository;
 import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import com.matheus.rentify.app.reports.event.ReportDataChangedEvent;
+import com.matheus.rentify.app.reports.event.ReportDataSource;
+import com.matheus.rentify.app.reports.service.DashboardCountersService;
+import com.matheus.rentify.app.reports.service.FinancialRollupService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,12 +29,18 @@ public class MaintenanceJobService {
     private final MaintenanceJobRepository maintenanceJobRepository;
     private final PropertyRepository propertyRepository;
     private final MaintenanceJobMapper maintenanceJobMapper;
+    private final DashboardCountersService dashboardCountersService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FinancialRollupService financialRollupService;
 
     @Autowired
-    public MaintenanceJobService(MaintenanceJobRepository maintenanceJobRepository, PropertyRepository propertyRepository, MaintenanceJobMapper maintenanceJobMapper) {
+    public MaintenanceJobService(MaintenanceJobRepository maintenanceJobRepository, PropertyRepository propertyRepository, MaintenanceJobMapper maintenanceJobMapper, DashboardCountersService dashboardCountersService, FinancialRollupService financialRollupService, ApplicationEventPublisher eventPublisher) {
         this.maintenanceJobRepository = maintenanceJobRepository;
         this.propertyRepository = propertyRepository;
         this.maintenanceJobMapper = maintenanceJobMapper;
+        this.dashboardCountersService = dashboardCountersService;
+        this.financialRollupService = financialRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -37,6 +51,10 @@ public class MaintenanceJobService {
 
         MaintenanceJob job = maintenanceJobMapper.toEntity(requestDTO);
         MaintenanceJob savedJob = maintenanceJobRepository.save(job);
+        dashboardCountersService.recordMaintenanceJobChange(null, null, savedJob.getMaintenanceStatus(), savedJob.getTotalCost());
+        financialRollupService.recordMaintenanceJobChange(null, null, null,
+                savedJob.getMaintenanceStatus(), savedJob.getTotalCost(), savedJob.getCompletionDate());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.MAINTENANCE_JOBS));
         return maintenanceJobMapper.toResponseDTO(savedJob);
     }
 
@@ -67,6 +85,9 @@ public class MaintenanceJobService {
     @Transactional
     public MaintenanceJobResponseDTO updateJob(Long id, MaintenanceJobRequestDTO requestDTO) {
         MaintenanceJob existingJob = findJobByIdOrThrow(id);
+        MaintenanceStatusEnum previousStatus = existingJob.getMaintenanceStatus();
+        BigDecimal previousCost = existingJob.getTotalCost();
+        LocalDate previousCompletionDate = existingJob.getCompletionDate();
 
         if (!propertyRepository.existsById(requestDTO.propertyId())) {
             throw new EntityNotFoundException("Property not found with id: " + requestDTO.propertyId());
@@ -74,15 +95,21 @@ public class MaintenanceJobService {
 
         maintenanceJobMapper.updateEntityFromDto(requestDTO, existingJob);
         MaintenanceJob updatedJob = maintenanceJobRepository.save(existingJob);
+        dashboardCountersService.recordMaintenanceJobChange(previousStatus, previousCost, updatedJob.getMaintenanceStatus(), updatedJob.getTotalCost());
+        financialRollupService.recordMaintenanceJobChange(previousStatus, previousCost, previousCompletionDate,
+                updatedJob.getMaintenanceStatus(), updatedJob.getTotalCost(), updatedJob.getCompletionDate());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.MAINTENANCE_JOBS));
         return maintenanceJobMapper.toResponseDTO(updatedJob);
     }
 
     @Transactional
     public void deleteJob(Long id) {
-        if (!maintenanceJobRepository.existsById(id)) {
-            throw new EntityNotFoundException("MaintenanceJob not found with id: " + id);
-        }
-        maintenanceJobRepository.deleteById(id);
+        MaintenanceJob job = findJobByIdOrThrow(id);
+        maintenanceJobRepository.delete(job);
+        dashboardCountersService.recordMaintenanceJobChange(job.getMaintenanceStatus(), job.getTotalCost(), null, null);
+        financialRollupService.recordMaintenanceJobChange(job.getMaintenanceStatus(), job.getTotalCost(), job.getCompletionDate(),
+                null, null, null);
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.MAINTENANCE_JOBS));
     }
 
     private MaintenanceJob findJobByIdOrThrow(Long id) {
@@ -11,8 +11,13 @@ import com.matheus.rentify.app.properties.dto.response.PropertyDetailsResponseDT
 import com.matheus.rentify.app.properties.dto.response.PropertyResponseDTO;
 import com.matheus.rentify.app.properties.mapper.PropertyMapper;
 import com.matheus.rentify.app.properties.model.Property;
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
+import com.matheus.rentify.app.reports.event.ReportDataChangedEvent;
+import com.matheus.rentify.app.reports.event.ReportDataSource;
+import com.matheus.rentify.app.reports.service.DashboardCountersService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,20 +34,26 @@ public class PropertyService {
     private final PropertyFinancialsHistoryRepository financialsHistoryRepository;
     private final LeaseRepository leaseRepository;
     private final PropertyMapper propertyMapper;
+    private final DashboardCountersService dashboardCountersService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public PropertyService(PropertyRepository propertyRepository, PropertyValueHistoryRepository valueHistoryRepository, PropertyFinancialsHistoryRepository financialsHistoryRepository, LeaseRepository leaseRepository, PropertyMapper propertyMapper) {
+    public PropertyService(PropertyRepository propertyRepository, PropertyValueHistoryRepository valueHistoryRepository, PropertyFinancialsHistoryRepository financialsHistoryRepository, LeaseRepository leaseRepository, PropertyMapper propertyMapper, DashboardCountersService dashboardCountersService, ApplicationEventPublisher eventPublisher) {
         this.propertyRepository = propertyRepository;
         this.valueHistoryRepository = valueHistoryRepository;
         this.financialsHistoryRepository = financialsHistoryRepository;
         this.leaseRepository = leaseRepository;
         this.propertyMapper = propertyMapper;
+        this.dashboardCountersService = dashboardCountersService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public PropertyDetailsResponseDTO createProperty(PropertyRequestDTO requestDTO) {
         Property property = propertyMapper.toEntity(requestDTO);
         Property savedProperty = propertyRepository.save(property);
+        dashboardCountersService.recordPropertyStatusChange(null, savedProperty.getStatus());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.PROPERTIES));
 
         if(savedProperty.getCurrentMarketValue() != null) {
             saveValueHistory(savedProperty, savedProperty.getCurrentMarketValue());
@@ -86,6 +97,7 @@ public class PropertyService {
     @Transactional
     public PropertyDetailsResponseDTO updateProperty(Long id, PropertyRequestDTO propertyRequestDTO) {
         Property existingProperty = findPropertyByIdOrThrow(id);
+        PropertyStatusEnum previousStatus = existingProperty.getStatus();
 
         boolean marketValueChanged = propertyRequestDTO.currentMarketValue() != null && !Objects.equals(propertyRequestDTO.currentMarketValue(), existingProperty.getCurrentMarketValue());
         boolean financialsChanged = (propertyRequestDTO.condoFee() != null && !Objects.equals(propertyRequestDTO.condoFee(), existingProperty.getCondoFee()))
@@ -101,6 +113,8 @@ public class PropertyService {
         propertyMapper.updateEntityFromDto(propertyRequestDTO, existingProperty);
 
         Property updatedProperty = propertyRepository.save(existingProperty);
+        dashboardCountersService.recordPropertyStatusChange(previousStatus, updatedProperty.getStatus());
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.PROPERTIES));
 
         return propertyMapper.toDetailsResponseDTO(updatedProperty);
     }
@@ -116,6 +130,8 @@ public class PropertyService {
         }
 
         propertyRepository.delete(property);
+        dashboardCountersService.recordPropertyStatusChange(property.getStatus(), null);
+        eventPublisher.publishEvent(ReportDataChangedEvent.of(ReportDataSource.PROPERTIES));
     }
 
     private Property findPropertyByIdOrThrow(Long id) {
@@ -1,26 +1,47 @@
 package com.matheus.rentify.app.reports.controller;
 
 import com.matheus.rentify.app.reports.dto.response.*;
+import com.matheus.rentify.app.reports.event.ReportDataSource;
+import com.matheus.rentify.app.reports.service.ReportCache;
+import com.matheus.rentify.app.reports.service.ReportExportService;
 import com.matheus.rentify.app.reports.service.ReportService;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
+import com.matheus.rentify.app.shared.export.TabularExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/reports")
 @Tag(name = "Reports", description = "Analytical endpoints for dashboards and financial reports")
 public class ReportController {
 
+    private static final Set<ReportDataSource> ALL_SOURCES = EnumSet.allOf(ReportDataSource.class);
+    private static final Set<ReportDataSource> LEASE_SOURCES = EnumSet.of(ReportDataSource.LEASES, ReportDataSource.PROPERTIES);
+    private static final Set<ReportDataSource> RENT_SOURCES = EnumSet.of(ReportDataSource.PAYMENTS, ReportDataSource.LEASES, ReportDataSource.PROPERTIES);
+    private static final Set<ReportDataSource> FINANCIAL_SOURCES = EnumSet.of(ReportDataSource.PAYMENTS, ReportDataSource.MAINTENANCE_JOBS);
+
     private final ReportService reportService;
+    private final ReportCache reportCache;
+    private final ReportExportService reportExportService;
 
     @Autowired
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService, ReportCache reportCache, ReportExportService reportExportService) {
         this.reportService = reportService;
+        this.reportCache = reportCache;
+        this.reportExportService = reportExportService;
     }
 
     @GetMapping("/annual-income")
@@ -31,15 +52,41 @@ public class ReportController {
     ) {
         int targetYear = (year != null) ? year : LocalDate.now().getYear();
 
-        AnnualIncomeReportResponseDTO report = reportService.generateAnnualIncomeReport(landlordProfileId, targetYear);
+        AnnualIncomeReportResponseDTO report = reportCache.get("annual-income:" + landlordProfileId + ":" + targetYear, RENT_SOURCES,
+                () -> reportService.generateAnnualIncomeReport(landlordProfileId, targetYear));
 
         return ResponseEntity.ok(report);
     }
 
+    @GetMapping("/annual-income/export")
+    @Operation(summary = "Download every payment behind a landlord's annual income over a range of years, as CSV or XLSX")
+    public ResponseEntity<StreamingResponseBody> exportAnnualIncome(
+            @RequestParam Long landlordProfileId,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(required = false, defaultValue = "CSV") TabularExportFormat format
+    ) {
+        int lastYear = (toYear != null) ? toYear : LocalDate.now().getYear();
+        int firstYear = (fromYear != null) ? fromYear : lastYear;
+        reportExportService.checkAnnualIncomeExport(landlordProfileId, firstYear, lastYear);
+
+        return download("annual-income-" + landlordProfileId + "-" + firstYear + "-" + lastYear, format,
+                out -> reportExportService.exportAnnualIncome(landlordProfileId, firstYear, lastYear, format, out));
+    }
+
     @GetMapping("/dashboard-summary")
     @Operation(summary = "Get high-level dashboard metrics")
     public ResponseEntity<DashboardSummaryResponseDTO> getDashboardSummary() {
-        return ResponseEntity.ok(reportService.getDashboardSummary());
+        return ResponseEntity.ok(reportCache.get("dashboard-summary:" + LocalDate.now(), ALL_SOURCES,
+                reportService::getDashboardSummary));
+    }
+
+    @PostMapping("/dashboard-summary/rebuild")
+    @Operation(summary = "Recompute the dashboard counters from scratch and report any drift")
+    public ResponseEntity<DashboardCountersRebuildResponseDTO> rebuildDashboardCounters() {
+        DashboardCountersRebuildResponseDTO result = reportService.rebuildDashboardCounters();
+        reportCache.invalidateAll();
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/financials")
@@ -47,7 +94,26 @@ public class ReportController {
     public ResponseEntity<List<MonthlyFinancialResponseDTO>> getFinancialHistory(
             @RequestParam(required = false) Integer year
     ) {
-        return ResponseEntity.ok(reportService.getFinancialHistory(year));
+        return ResponseEntity.ok(reportCache.get("financials:" + year, FINANCIAL_SOURCES,
+                () -> reportService.getFinancialHistory(year)));
+    }
+
+    @GetMapping("/financials/export")
+    @Operation(summary = "Download the monthly financial history (all time or filtered) as CSV or XLSX")
+    public ResponseEntity<StreamingResponseBody> exportFinancialHistory(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false, defaultValue = "CSV") TabularExportFormat format
+    ) {
+        return download("financial-history" + (year != null ? "-" + year : ""), format,
+                out -> reportExportService.exportFinancialHistory(year, format, out));
+    }
+
+    @PostMapping("/financials/rebuild")
+    @Operation(summary = "Recompute the monthly financial rollup from payments and maintenance jobs")
+    public ResponseEntity<List<MonthlyFinancialResponseDTO>> rebuildFinancialHistory() {
+        List<MonthlyFinancialResponseDTO> result = reportService.rebuildFinancialHistory();
+        reportCache.invalidateAll();
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/leases/expiring")
@@ -55,7 +121,8 @@ public class ReportController {
     public ResponseEntity<List<ExpiringLeaseResponseDTO>> getExpiringLeases(
             @RequestParam(required = false, defaultValue = "30") int days
     ) {
-        List<ExpiringLeaseResponseDTO> expiringLeases = reportService.getExpiringLeases(days);
+        List<ExpiringLeaseResponseDTO> expiringLeases = reportCache.get("leases-expiring:" + LocalDate.now() + ":" + days, LEASE_SOURCES,
+                () -> reportService.getExpiringLeases(days));
         return ResponseEntity.ok(expiringLeases);
     }
 
@@ -65,12 +132,73 @@ public class ReportController {
             @RequestParam int referenceMonth,
             @RequestParam int referenceYear
     ) {
-        return ResponseEntity.ok(reportService.getLatePayments(referenceMonth, referenceYear));
+        return ResponseEntity.ok(reportCache.get("late-payments:" + LocalDate.now() + ":" + referenceYear + "-" + referenceMonth, RENT_SOURCES,
+                () -> reportService.getLatePayments(referenceMonth, referenceYear)));
+    }
+
+    @GetMapping("/late-payments/export")
+    @Operation(summary = "Download the tenants with overdue payments for a specific month as CSV or XLSX")
+    public ResponseEntity<StreamingResponseBody> exportLatePayments(
+            @RequestParam int referenceMonth,
+            @RequestParam int referenceYear,
+            @RequestParam(required = false, defaultValue = "CSV") TabularExportFormat format
+    ) {
+        YearMonth reference = YearMonth.of(referenceYear, referenceMonth);
+
+        return download("late-payments-" + reference, format,
+                out -> reportExportService.exportLatePayments(referenceMonth, referenceYear, format, out));
+    }
+
+    @GetMapping("/late-payments/page")
+    @Operation(summary = "Get tenants with overdue payments for a specific month, one keyset page at a time")
+    public ResponseEntity<CursorPageResponseDTO<LatePaymentResponseDTO>> getLatePaymentsPage(
+            @RequestParam int referenceMonth,
+            @RequestParam int referenceYear,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(reportCache.get("late-payments-page:" + LocalDate.now() + ":" + referenceYear + "-" + referenceMonth + ":" + cursor + ":" + size, RENT_SOURCES,
+                () -> reportService.getLatePaymentsPage(referenceMonth, referenceYear, cursor, size)));
+    }
+
+    @GetMapping("/late-payments/matrix")
+    @Operation(summary = "Get which active leases missed which months between two reference months (yyyy-MM, inclusive)")
+    public ResponseEntity<LatePaymentMatrixResponseDTO> getLatePaymentMatrix(
+            @RequestParam YearMonth fromYearMonth,
+            @RequestParam YearMonth toYearMonth
+    ) {
+        return ResponseEntity.ok(reportCache.get("late-payments-matrix:" + LocalDate.now() + ":" + fromYearMonth + ":" + toYearMonth, RENT_SOURCES,
+                () -> reportService.getLatePaymentMatrix(fromYearMonth, toYearMonth)));
+    }
+
+    @GetMapping("/occupancy-history")
+    @Operation(summary = "Get leases active at the end of each month (yyyy-MM, inclusive; defaults to the last 12 months)")
+    public ResponseEntity<List<MonthlyOccupancyResponseDTO>> getOccupancyHistory(
+            @RequestParam(required = false) YearMonth fromYearMonth,
+            @RequestParam(required = false) YearMonth toYearMonth
+    ) {
+        YearMonth to = (toYearMonth != null) ? toYearMonth : YearMonth.now();
+        YearMonth from = (fromYearMonth != null) ? fromYearMonth : to.minusMonths(11);
+
+        return ResponseEntity.ok(reportCache.get("occupancy-history:" + from + ":" + to, LEASE_SOURCES,
+                () -> reportService.getOccupancyHistory(from, to)));
     }
 
     @GetMapping("/recent-activities")
     @Operation(summary = "Get a unified list of recent activities (payments, jobs, alerts)")
     public ResponseEntity<List<DashboardActivityResponseDTO>> getRecentActivities() {
-        return ResponseEntity.ok(reportService.getRecentActivities());
+        return ResponseEntity.ok(reportCache.get("recent-activities:" + LocalDate.now(), ALL_SOURCES,
+                reportService::getRecentActivities));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String baseName, TabularExportFormat format,
+                                                                  StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(format.fileName(baseName))
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
     }
-}
\ No newline at end of file
+}
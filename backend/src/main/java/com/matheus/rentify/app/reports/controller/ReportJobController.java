@@ -0,0 +1,54 @@
+package com.matheus.rentify.app.reports.controller;
+
+import com.matheus.rentify.app.reports.dto.request.ReportJobRequestDTO;
+import com.matheus.rentify.app.reports.dto.response.ReportJobResponseDTO;
+import com.matheus.rentify.app.reports.service.ReportJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/reports/jobs")
+@Tag(name = "Report Jobs", description = "Run long reports in the background and poll for the result")
+public class ReportJobController {
+
+    private final ReportJobService reportJobService;
+
+    @Autowired
+    public ReportJobController(ReportJobService reportJobService) {
+        this.reportJobService = reportJobService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Submit a report to run in the background; poll the returned location for the result")
+    public ResponseEntity<ReportJobResponseDTO> submitJob(
+            @Valid @RequestBody ReportJobRequestDTO requestDTO,
+            Authentication authentication) {
+
+        ReportJobResponseDTO job = reportJobService.submit(requestDTO, authentication.getName());
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.id())
+                .toUri();
+
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get the status of a report job, and its result once completed")
+    public ResponseEntity<ReportJobResponseDTO> getJob(
+            @PathVariable String id,
+            Authentication authentication) {
+
+        return ResponseEntity.ok(reportJobService.getJob(id, authentication.getName()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.matheus.rentify.app.reports.dto.request;
+
+import com.matheus.rentify.app.reports.model.ReportJobTypeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.YearMonth;
+
+/**
+ * Data Transfer Object for submitting a report to run in the background.
+ * Which parameters are required depends on {@code type}.
+ */
+public record ReportJobRequestDTO(
+
+        @Schema(description = "The report to run.", example = "ANNUAL_INCOME", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Report type is mandatory.")
+        ReportJobTypeEnum type,
+
+        @Schema(description = "Landlord profile to report on. Required for ANNUAL_INCOME.", example = "1")
+        Long landlordProfileId,
+
+        @Schema(description = "First year of an ANNUAL_INCOME report, or the year filter of FINANCIAL_HISTORY (all time when omitted).", example = "2022")
+        Integer year,
+
+        @Schema(description = "Last year of an ANNUAL_INCOME report, inclusive. Defaults to year.", example = "2025")
+        Integer toYear,
+
+        @Schema(description = "First month (yyyy-MM) of a LATE_PAYMENT_MATRIX or OCCUPANCY_HISTORY report.", example = "2025-01")
+        YearMonth fromYearMonth,
+
+        @Schema(description = "Last month (yyyy-MM, inclusive) of a LATE_PAYMENT_MATRIX or OCCUPANCY_HISTORY report.", example = "2025-12")
+        YearMonth toYearMonth
+) {}
@@ -0,0 +1,20 @@
+package com.matheus.rentify.app.reports.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object describing a single dashboard counter that drifted from the database.
+ */
+public record DashboardCounterDriftDTO(
+
+        @Schema(description = "Name of the counter that drifted.", example = "properties.RENTED")
+        String counter,
+
+        @Schema(description = "Value held in memory before the rebuild.", example = "41")
+        BigDecimal cachedValue,
+
+        @Schema(description = "Value recomputed from the database.", example = "42")
+        BigDecimal recomputedValue
+) {
+}
@@ -0,0 +1,22 @@
+package com.matheus.rentify.app.reports.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object returned after rebuilding the dashboard counters from scratch.
+ * Lists every counter whose in-memory value did not match the recomputed one.
+ */
+public record DashboardCountersRebuildResponseDTO(
+
+        @Schema(description = "Whether the counters had been initialized before this rebuild.", example = "true")
+        boolean previouslyInitialized,
+
+        @Schema(description = "Counters whose cached value differed from the database.")
+        List<DashboardCounterDriftDTO> drift,
+
+        @Schema(description = "Moment the rebuild finished.", example = "2025-11-28T10:15:30")
+        LocalDateTime rebuiltAt
+) {
+}
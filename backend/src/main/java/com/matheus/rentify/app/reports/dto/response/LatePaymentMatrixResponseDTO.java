@@ -0,0 +1,26 @@
+package com.matheus.rentify.app.reports.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the multi-month delinquency view.
+ * Each row carries one status character per month of the window, oldest month first.
+ */
+public record LatePaymentMatrixResponseDTO(
+
+        @Schema(description = "First month of the window (inclusive).", type = "string", example = "2025-01")
+        YearMonth fromMonth,
+
+        @Schema(description = "Last month of the window (inclusive).", type = "string", example = "2025-06")
+        YearMonth toMonth,
+
+        @Schema(description = "Legend of the month status characters used in each row.", example = "1 = paid, 0 = missed, . = not due")
+        String legend,
+
+        @Schema(description = "Active leases that missed at least one month of the window.")
+        List<LatePaymentMatrixRowDTO> leases
+) {
+}
@@ -0,0 +1,32 @@
+package com.matheus.rentify.app.reports.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for one lease in the multi-month delinquency view.
+ */
+public record LatePaymentMatrixRowDTO(
+
+        @Schema(description = "Unique identifier of the lease.", example = "22")
+        Long leaseId,
+
+        @Schema(description = "Address of the property.", example = "Rua 9, Centro")
+        String propertyAddress,
+
+        @Schema(description = "Full name of the tenant.", example = "Maria Oliveira")
+        String tenantName,
+
+        @Schema(description = "Day of the month the payment is expected.", example = "10")
+        Integer paymentDueDay,
+
+        @Schema(description = "The base rent value owed each month.", example = "2200.00")
+        BigDecimal rentValue,
+
+        @Schema(description = "One character per month of the window: 1 = paid, 0 = missed, . = not due.", example = "110.01")
+        String months,
+
+        @Schema(description = "Number of missed months in the window.", example = "2")
+        int missedCount
+) {
+}
@@ -0,0 +1,23 @@
+package com.matheus.rentify.app.reports.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the monthly occupancy history.
+ * Used to chart occupied units over time.
+ */
+public record MonthlyOccupancyResponseDTO(
+
+        @Schema(description = "The month number (1-12).", example = "10")
+        Integer month,
+
+        @Schema(description = "The year of the record.", example = "2025")
+        Integer year,
+
+        @Schema(description = "Leases active on the last day of the month.", example = "42")
+        long occupiedUnits,
+
+        @Schema(description = "Occupied units as a percentage of the current property count.", example = "84.0")
+        double occupancyRate
+) {
+}
@@ -0,0 +1,40 @@
+package com.matheus.rentify.app.reports.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.matheus.rentify.app.reports.model.ReportJobStatusEnum;
+import com.matheus.rentify.app.reports.model.ReportJobTypeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object describing a background report job.
+ * The result is only present once the job has completed.
+ */
+public record ReportJobResponseDTO(
+
+        @Schema(description = "Job identifier used to poll for the result.", example = "3f0c2b8e-6a47-4e43-9d0b-0b5a0c6f0b1e")
+        String id,
+
+        @Schema(description = "The report being run.", example = "FINANCIAL_HISTORY")
+        ReportJobTypeEnum type,
+
+        @Schema(description = "Current state of the job.", example = "COMPLETED")
+        ReportJobStatusEnum status,
+
+        @Schema(description = "Moment the job was submitted.", example = "2025-11-28T10:15:30")
+        LocalDateTime submittedAt,
+
+        @Schema(description = "Moment the job finished, successfully or not.", example = "2025-11-28T10:16:02")
+        LocalDateTime completedAt,
+
+        @Schema(description = "Moment the job and its result will be discarded.", example = "2025-11-28T11:16:02")
+        LocalDateTime expiresAt,
+
+        @Schema(description = "Why the job failed, when it did.", example = "Landlord Profile not found")
+        String error,
+
+        @Schema(description = "The report, in the same shape as the matching synchronous endpoint.")
+        JsonNode result
+) {
+}
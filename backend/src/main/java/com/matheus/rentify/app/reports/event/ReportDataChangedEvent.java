@@ -0,0 +1,15 @@
+package com.matheus.rentify.app.reports.event;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Published by the services that write report inputs. Cached reports built from any of
+ * {@code sources} are dropped once the publishing transaction commits.
+ */
+public record ReportDataChangedEvent(Set<ReportDataSource> sources) {
+
+    public static ReportDataChangedEvent of(ReportDataSource first, ReportDataSource... rest) {
+        return new ReportDataChangedEvent(EnumSet.of(first, rest));
+    }
+}
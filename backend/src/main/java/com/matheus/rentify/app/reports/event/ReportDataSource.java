@@ -0,0 +1,11 @@
+package com.matheus.rentify.app.reports.event;
+
+/**
+ * The kinds of written data that report results are computed from.
+ */
+public enum ReportDataSource {
+    PAYMENTS,
+    LEASES,
+    PROPERTIES,
+    MAINTENANCE_JOBS
+}
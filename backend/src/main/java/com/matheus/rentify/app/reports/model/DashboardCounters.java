@@ -0,0 +1,29 @@
+package com.matheus.rentify.app.reports.model;
+
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the incrementally maintained dashboard counters.
+ * Produced by {@code DashboardCountersService} so the dashboard summary can be served without touching the database.
+ */
+public record DashboardCounters(
+        Map<PropertyStatusEnum, Long> propertyStatusCounts,
+        BigDecimal currentMonthRevenue,
+        BigDecimal lastMonthRevenue,
+        BigDecimal outstandingMaintenanceCosts,
+        long activeLeasesEndOfLastMonth
+) {
+
+    public long propertiesWithStatus(PropertyStatusEnum status) {
+        return propertyStatusCounts.getOrDefault(status, 0L);
+    }
+
+    public long totalProperties() {
+        return propertyStatusCounts.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+}
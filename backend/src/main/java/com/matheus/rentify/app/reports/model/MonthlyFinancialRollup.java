@@ -0,0 +1,39 @@
+package com.matheus.rentify.app.reports.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Revenue and expense totals for one calendar month, kept up to date by the payment and
+ * maintenance job services so the financial history report never aggregates the raw tables.
+ */
+@Entity
+@Table(
+        name = "monthly_financial_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_year_month", columnNames = {"rollup_year", "rollup_month"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyFinancialRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id", nullable = false)
+    private Long id;
+
+    @Column(name = "rollup_year", nullable = false)
+    private int year;
+
+    @Column(name = "rollup_month", nullable = false)
+    private int month;
+
+    @Column(name = "total_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalRevenue;
+
+    @Column(name = "total_expenses", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalExpenses;
+}
@@ -0,0 +1,8 @@
+package com.matheus.rentify.app.reports.model;
+
+public enum ReportJobStatusEnum {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.matheus.rentify.app.reports.model;
+
+public enum ReportJobTypeEnum {
+    FINANCIAL_HISTORY,
+    ANNUAL_INCOME,
+    LATE_PAYMENT_MATRIX,
+    OCCUPANCY_HISTORY
+}
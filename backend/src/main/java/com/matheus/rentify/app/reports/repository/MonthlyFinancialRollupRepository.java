@@ -0,0 +1,79 @@
+package com.matheus.rentify.app.reports.repository;
+
+import com.matheus.rentify.app.reports.dto.response.MonthlyFinancialResponseDTO;
+import com.matheus.rentify.app.reports.model.MonthlyFinancialRollup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface MonthlyFinancialRollupRepository extends JpaRepository<MonthlyFinancialRollup, Long> {
+
+    /**
+     * Inserts one row per month with revenue and expenses recomputed from {@code payments} and
+     * completed {@code maintenance_jobs} in a single statement, so no write can commit between
+     * reading the source tables and storing their totals. Call it right after emptying the table.
+     *
+     * @return The number of months inserted.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO monthly_financial_rollup (rollup_year, rollup_month, total_revenue, total_expenses)
+        SELECT t.rollup_year, t.rollup_month, SUM(t.revenue), SUM(t.expenses)
+        FROM (
+            SELECT p.reference_year AS rollup_year, p.reference_month AS rollup_month,
+                   p.amount_paid AS revenue, 0 AS expenses
+            FROM payments p
+            UNION ALL
+            SELECT YEAR(m.completion_date), MONTH(m.completion_date), 0, m.total_cost
+            FROM maintenance_jobs m
+            WHERE m.maintenance_status = 'COMPLETED'
+              AND m.completion_date IS NOT NULL
+              AND m.total_cost IS NOT NULL
+        ) t
+        GROUP BY t.rollup_year, t.rollup_month
+    """, nativeQuery = true)
+    int insertRecomputedMonths();
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.reports.dto.response.MonthlyFinancialResponseDTO(
+            r.month, r.year, r.totalRevenue, r.totalExpenses, r.totalRevenue - r.totalExpenses)
+        FROM MonthlyFinancialRollup r
+        WHERE r.totalRevenue <> 0 OR r.totalExpenses <> 0
+        ORDER BY r.year ASC, r.month ASC
+    """)
+    List<MonthlyFinancialResponseDTO> findAllMonths();
+
+    @Query("""
+        SELECT new com.matheus.rentify.app.reports.dto.response.MonthlyFinancialResponseDTO(
+            r.month, r.year, r.totalRevenue, r.totalExpenses, r.totalRevenue - r.totalExpenses)
+        FROM MonthlyFinancialRollup r
+        WHERE r.year = :year
+          AND (r.totalRevenue <> 0 OR r.totalExpenses <> 0)
+        ORDER BY r.month ASC
+    """)
+    List<MonthlyFinancialResponseDTO> findMonthsOfYear(@Param("year") int year);
+
+    /**
+     * Streams the months of {@link #findAllMonths()}, or of one year when {@code year} is not null.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.matheus.rentify.app.reports.dto.response.MonthlyFinancialResponseDTO(
+            r.month, r.year, r.totalRevenue, r.totalExpenses, r.totalRevenue - r.totalExpenses)
+        FROM MonthlyFinancialRollup r
+        WHERE (:year IS NULL OR r.year = :year)
+          AND (r.totalRevenue <> 0 OR r.totalExpenses <> 0)
+        ORDER BY r.year ASC, r.month ASC
+    """)
+    Stream<MonthlyFinancialResponseDTO> streamMonths(@Param("year") Integer year);
+}
@@ -0,0 +1,281 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.matheus.rentify.app.leases.repository.LeaseRepository;
+import com.matheus.rentify.app.leases.repository.PaymentRepository;
+import com.matheus.rentify.app.properties.model.MaintenanceStatusEnum;
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
+import com.matheus.rentify.app.properties.repository.MaintenanceJobRepository;
+import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import com.matheus.rentify.app.reports.dto.response.DashboardCounterDriftDTO;
+import com.matheus.rentify.app.reports.dto.response.DashboardCountersRebuildResponseDTO;
+import com.matheus.rentify.app.reports.model.DashboardCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Keeps the dashboard metrics in memory and updates them incrementally as the
+ * property, lease, payment and maintenance services write.
+ *
+ * Deltas are applied only after the surrounding transaction commits, so rolled back
+ * writes never reach the counters. A database load that overlaps a commit may already
+ * include that write, so such a delta is dropped and the next snapshot reloads instead
+ * of risking counting it twice. {@link #rebuild()} recomputes everything from the
+ * database and reports any drift found along the way.
+ *
+ * The counters live in this JVM and only see writes made through it: the application
+ * must run as a single instance, or other instances' writes are missed until the next
+ * {@link #rebuild()}.
+ */
+@Service
+public class DashboardCountersService {
+
+    private static final List<MaintenanceStatusEnum> OUTSTANDING_STATUSES =
+            List.of(MaintenanceStatusEnum.PENDING, MaintenanceStatusEnum.IN_PROGRESS);
+
+    private final PropertyRepository propertyRepository;
+    private final PaymentRepository paymentRepository;
+    private final MaintenanceJobRepository maintenanceJobRepository;
+    private final LeaseRepository leaseRepository;
+
+    private final EnumMap<PropertyStatusEnum, Long> propertyStatusCounts = new EnumMap<>(PropertyStatusEnum.class);
+    private final Map<YearMonth, BigDecimal> revenueByReferenceMonth = new HashMap<>();
+    private BigDecimal outstandingMaintenanceCosts = BigDecimal.ZERO;
+    private LocalDate occupancyReferenceDate;
+    private long activeLeasesOnReferenceDate;
+    private boolean initialized = false;
+    // Bumped when a database load starts and when it ends, so it is odd while one is running.
+    private volatile long loadGeneration = 0;
+
+    @Autowired
+    public DashboardCountersService(PropertyRepository propertyRepository,
+                                    PaymentRepository paymentRepository,
+                                    MaintenanceJobRepository maintenanceJobRepository,
+                                    LeaseRepository leaseRepository) {
+        this.propertyRepository = propertyRepository;
+        this.paymentRepository = paymentRepository;
+        this.maintenanceJobRepository = maintenanceJobRepository;
+        this.leaseRepository = leaseRepository;
+    }
+
+    /**
+     * Returns the current counters. The first call (or the first call of a new month,
+     * for the end-of-last-month occupancy) hits the database; every other call is served from memory.
+     */
+    @Transactional(readOnly = true)
+    public synchronized DashboardCounters snapshot() {
+        if (!initialized) {
+            loadFromDatabase();
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate endOfLastMonth = today.withDayOfMonth(1).minusDays(1);
+        if (!endOfLastMonth.equals(occupancyReferenceDate)) {
+            loadGeneration++;
+            occupancyReferenceDate = endOfLastMonth;
+            activeLeasesOnReferenceDate = leaseRepository.countActiveLeasesOnDate(endOfLastMonth);
+            loadGeneration++;
+        }
+
+        YearMonth currentMonth = YearMonth.from(today);
+        return new DashboardCounters(
+                Collections.unmodifiableMap(new EnumMap<>(propertyStatusCounts)),
+                revenueByReferenceMonth.getOrDefault(currentMonth, BigDecimal.ZERO),
+                revenueByReferenceMonth.getOrDefault(currentMonth.minusMonths(1), BigDecimal.ZERO),
+                outstandingMaintenanceCosts,
+                activeLeasesOnReferenceDate
+        );
+    }
+
+    /**
+     * Recomputes every counter from scratch and replaces the in-memory values.
+     *
+     * @return The counters that differed from the recomputed values (empty if nothing drifted).
+     */
+    @Transactional(readOnly = true)
+    public synchronized DashboardCountersRebuildResponseDTO rebuild() {
+        boolean previouslyInitialized = initialized;
+
+        EnumMap<PropertyStatusEnum, Long> previousStatusCounts = new EnumMap<>(propertyStatusCounts);
+        Map<YearMonth, BigDecimal> previousRevenue = new HashMap<>(revenueByReferenceMonth);
+        BigDecimal previousOutstanding = outstandingMaintenanceCosts;
+        LocalDate previousReferenceDate = occupancyReferenceDate;
+        long previousActiveLeases = activeLeasesOnReferenceDate;
+
+        loadFromDatabase();
+
+        List<DashboardCounterDriftDTO> drift = new ArrayList<>();
+        if (previouslyInitialized) {
+            for (PropertyStatusEnum status : PropertyStatusEnum.values()) {
+                addDrift(drift, "properties." + status,
+                        BigDecimal.valueOf(previousStatusCounts.getOrDefault(status, 0L)),
+                        BigDecimal.valueOf(propertyStatusCounts.getOrDefault(status, 0L)));
+            }
+
+            Set<YearMonth> months = new TreeSet<>(previousRevenue.keySet());
+            months.addAll(revenueByReferenceMonth.keySet());
+            for (YearMonth month : months) {
+                addDrift(drift, "revenue." + month,
+                        previousRevenue.getOrDefault(month, BigDecimal.ZERO),
+                        revenueByReferenceMonth.getOrDefault(month, BigDecimal.ZERO));
+            }
+
+            addDrift(drift, "maintenance.outstanding", previousOutstanding, outstandingMaintenanceCosts);
+
+            if (previousReferenceDate != null) {
+                long recomputed = leaseRepository.countActiveLeasesOnDate(previousReferenceDate);
+                addDrift(drift, "leases.activeOn." + previousReferenceDate,
+                        BigDecimal.valueOf(previousActiveLeases), BigDecimal.valueOf(recomputed));
+            }
+        }
+
+        return new DashboardCountersRebuildResponseDTO(previouslyInitialized, drift, LocalDateTime.now());
+    }
+
+    /**
+     * Records a property status transition. Use {@code null} as the previous status for a new
+     * property and as the current status for a deleted one.
+     */
+    public void recordPropertyStatusChange(PropertyStatusEnum previousStatus, PropertyStatusEnum currentStatus) {
+        if (previousStatus == currentStatus) {
+            return;
+        }
+        afterCommit(() -> {
+            if (previousStatus != null) {
+                propertyStatusCounts.merge(previousStatus, -1L, Long::sum);
+            }
+            if (currentStatus != null) {
+                propertyStatusCounts.merge(currentStatus, 1L, Long::sum);
+            }
+        });
+    }
+
+    /**
+     * Records a payment write. Use {@code null} for the previous side on creation and for the
+     * current side on deletion.
+     */
+    public void recordPaymentChange(YearMonth previousReferenceMonth, BigDecimal previousAmount,
+                                    YearMonth currentReferenceMonth, BigDecimal currentAmount) {
+        afterCommit(() -> {
+            if (previousReferenceMonth != null && previousAmount != null) {
+                revenueByReferenceMonth.merge(previousReferenceMonth, previousAmount.negate(), BigDecimal::add);
+            }
+            if (currentReferenceMonth != null && currentAmount != null) {
+                revenueByReferenceMonth.merge(currentReferenceMonth, currentAmount, BigDecimal::add);
+            }
+        });
+    }
+
+    /**
+     * Records a maintenance job write. Use {@code null} for the previous side on creation and for
+     * the current side on deletion.
+     */
+    public void recordMaintenanceJobChange(MaintenanceStatusEnum previousStatus, BigDecimal previousCost,
+                                           MaintenanceStatusEnum currentStatus, BigDecimal currentCost) {
+        afterCommit(() -> {
+            if (OUTSTANDING_STATUSES.contains(previousStatus) && previousCost != null) {
+                outstandingMaintenanceCosts = outstandingMaintenanceCosts.subtract(previousCost);
+            }
+            if (OUTSTANDING_STATUSES.contains(currentStatus) && currentCost != null) {
+                outstandingMaintenanceCosts = outstandingMaintenanceCosts.add(currentCost);
+            }
+        });
+    }
+
+    /**
+     * Records a change to the occupancy interval {@code [startDate, moveOutDate)} of a lease.
+     * Use {@code null} dates for the previous side on creation.
+     */
+    public void recordLeaseIntervalChange(LocalDate previousStartDate, LocalDate previousMoveOutDate,
+                                          LocalDate currentStartDate, LocalDate currentMoveOutDate) {
+        afterCommit(() -> {
+            if (occupancyReferenceDate == null) {
+                return;
+            }
+            if (isActiveOn(previousStartDate, previousMoveOutDate, occupancyReferenceDate)) {
+                activeLeasesOnReferenceDate--;
+            }
+            if (isActiveOn(currentStartDate, currentMoveOutDate, occupancyReferenceDate)) {
+                activeLeasesOnReferenceDate++;
+            }
+        });
+    }
+
+    private void loadFromDatabase() {
+        loadGeneration++;
+        propertyStatusCounts.clear();
+        for (PropertyStatusEnum status : PropertyStatusEnum.values()) {
+            propertyStatusCounts.put(status, 0L);
+        }
+        for (Object[] row : propertyRepository.countPropertiesGroupedByStatus()) {
+            propertyStatusCounts.put((PropertyStatusEnum) row[0], (Long) row[1]);
+        }
+
+        revenueByReferenceMonth.clear();
+        for (Object[] row : paymentRepository.findMonthlyRevenueGrouped()) {
+            YearMonth month = YearMonth.of((Integer) row[0], (Integer) row[1]);
+            revenueByReferenceMonth.put(month, (BigDecimal) row[2]);
+        }
+
+        BigDecimal outstanding = maintenanceJobRepository.sumOutstandingCosts(OUTSTANDING_STATUSES);
+        outstandingMaintenanceCosts = outstanding != null ? outstanding : BigDecimal.ZERO;
+
+        occupancyReferenceDate = null;
+        initialized = true;
+        loadGeneration++;
+    }
+
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private long generation;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    generation = loadGeneration;
+                }
+
+                @Override
+                public void afterCommit() {
+                    apply(update, generation);
+                }
+            });
+        } else {
+            apply(update, loadGeneration);
+        }
+    }
+
+    private synchronized void apply(Runnable update, long generation) {
+        // Until the first snapshot there is nothing to keep up to date; the initial load reads committed state.
+        if (!initialized) {
+            return;
+        }
+        if (generation != loadGeneration || generation % 2 != 0) {
+            // A load ran between just before the commit and now, so it may already include this write.
+            initialized = false;
+            return;
+        }
+        update.run();
+    }
+
+    private static boolean isActiveOn(LocalDate startDate, LocalDate moveOutDate, LocalDate date) {
+        return startDate != null
+                && !startDate.isAfter(date)
+                && (moveOutDate == null || moveOutDate.isAfter(date));
+    }
+
+    private static void addDrift(List<DashboardCounterDriftDTO> drift, String counter,
+                                 BigDecimal cachedValue, BigDecimal recomputedValue) {
+        if (cachedValue.compareTo(recomputedValue) != 0) {
+            drift.add(new DashboardCounterDriftDTO(counter, cachedValue, recomputedValue));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.matheus.rentify.app.properties.model.MaintenanceStatusEnum;
+import com.matheus.rentify.app.reports.dto.response.MonthlyFinancialResponseDTO;
+import com.matheus.rentify.app.reports.repository.MonthlyFinancialRollupRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Maintains the {@code monthly_financial_rollup} table: revenue per payment reference month
+ * and expenses per completion month of finished maintenance jobs.
+ *
+ * Deltas are written inside the caller's transaction, so the rollup commits or rolls back
+ * together with the payment or job that caused it. Each delta is a single upsert keyed on
+ * {@code uk_rollup_year_month}, so two transactions creating the same month at once both add
+ * to one row instead of the second failing on the unique key.
+ *
+ * {@link #rebuild()} recomputes the table from the raw data and runs on startup when the table
+ * is still empty.
+ */
+@Service
+public class FinancialRollupService {
+
+    private static final String MYSQL_UPSERT = """
+        INSERT INTO monthly_financial_rollup (rollup_year, rollup_month, total_revenue, total_expenses)
+        VALUES (?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            total_revenue = total_revenue + VALUES(total_revenue),
+            total_expenses = total_expenses + VALUES(total_expenses)
+    """;
+
+    private static final String MERGE_UPSERT = """
+        MERGE INTO monthly_financial_rollup r
+        USING (SELECT CAST(? AS INT) AS rollup_year, CAST(? AS INT) AS rollup_month,
+                      CAST(? AS DECIMAL(14, 2)) AS total_revenue, CAST(? AS DECIMAL(14, 2)) AS total_expenses) d
+        ON r.rollup_year = d.rollup_year AND r.rollup_month = d.rollup_month
+        WHEN MATCHED THEN UPDATE SET
+            total_revenue = r.total_revenue + d.total_revenue,
+            total_expenses = r.total_expenses + d.total_expenses
+        WHEN NOT MATCHED THEN INSERT (rollup_year, rollup_month, total_revenue, total_expenses)
+            VALUES (d.rollup_year, d.rollup_month, d.total_revenue, d.total_expenses)
+    """;
+
+    private final MonthlyFinancialRollupRepository rollupRepository;
+    private final EntityManager entityManager;
+
+    private volatile String upsertSql;
+
+    @Autowired
+    public FinancialRollupService(MonthlyFinancialRollupRepository rollupRepository, EntityManager entityManager) {
+        this.rollupRepository = rollupRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public List<MonthlyFinancialResponseDTO> getMonths(Integer year) {
+        return year != null ? rollupRepository.findMonthsOfYear(year) : rollupRepository.findAllMonths();
+    }
+
+    /**
+     * Records a payment write. Use {@code null} for the previous side on creation and for the
+     * current side on deletion.
+     */
+    @Transactional
+    public void recordPaymentChange(YearMonth previousReferenceMonth, BigDecimal previousAmount,
+                                    YearMonth currentReferenceMonth, BigDecimal currentAmount) {
+        if (previousReferenceMonth != null && previousAmount != null) {
+            addToMonth(previousReferenceMonth, previousAmount.negate(), BigDecimal.ZERO);
+        }
+        if (currentReferenceMonth != null && currentAmount != null) {
+            addToMonth(currentReferenceMonth, currentAmount, BigDecimal.ZERO);
+        }
+    }
+
+    /**
+     * Records a maintenance job write. Only completed jobs with a cost and a completion date count
+     * as expenses. Use {@code null} for the previous side on creation and for the current side on deletion.
+     */
+    @Transactional
+    public void recordMaintenanceJobChange(MaintenanceStatusEnum previousStatus, BigDecimal previousCost, LocalDate previousCompletionDate,
+                                           MaintenanceStatusEnum currentStatus, BigDecimal currentCost, LocalDate currentCompletionDate) {
+        if (isExpense(previousStatus, previousCost, previousCompletionDate)) {
+            addToMonth(YearMonth.from(previousCompletionDate), BigDecimal.ZERO, previousCost.negate());
+        }
+        if (isExpense(currentStatus, currentCost, currentCompletionDate)) {
+            addToMonth(YearMonth.from(currentCompletionDate), BigDecimal.ZERO, currentCost);
+        }
+    }
+
+    /**
+     * Replaces the whole rollup with totals recomputed from {@code payments} and {@code maintenance_jobs}.
+     *
+     * The delete locks every rollup row, so concurrent deltas wait for this transaction instead of
+     * landing in between, and the recompute reads the source tables in the same statement that
+     * stores the totals, so nothing committed after the read can be dropped by the replace.
+     */
+    @Transactional
+    public List<MonthlyFinancialResponseDTO> rebuild() {
+        rollupRepository.deleteAllInBatch();
+        rollupRepository.insertRecomputedMonths();
+
+        return rollupRepository.findAllMonths();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    private void addToMonth(YearMonth month, BigDecimal revenue, BigDecimal expenses) {
+        entityManager.createNativeQuery(upsertSql())
+                .setParameter(1, month.getYear())
+                .setParameter(2, month.getMonthValue())
+                .setParameter(3, revenue)
+                .setParameter(4, expenses)
+                .executeUpdate();
+    }
+
+    /**
+     * MySQL (or MariaDB) in production, H2 in tests: each has its own single-statement upsert.
+     */
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            sql = ("MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product)) ? MYSQL_UPSERT : MERGE_UPSERT;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    private static boolean isExpense(MaintenanceStatusEnum status, BigDecimal cost, LocalDate completionDate) {
+        return status == MaintenanceStatusEnum.COMPLETED && cost != null && completionDate != null;
+    }
+}
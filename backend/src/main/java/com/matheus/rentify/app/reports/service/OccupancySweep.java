@@ -0,0 +1,61 @@
+package com.matheus.rentify.app.reports.service;
+
+import java.time.YearMonth;
+
+/**
+ * Counts, for every month of a window, the leases active on the last day of that month.
+ *
+ * A lease is active on a date when it started on or before it and has no move-out date or moves
+ * out after it, the same rule as {@code LeaseRepository.countActiveLeasesOnDate}. At month
+ * granularity that means a lease covers the months from its start month up to, but excluding, its
+ * move-out month. Each lease therefore adds +1 at its first covered month and -1 after its last, and
+ * a single prefix sum over the window turns those deltas into counts, whatever the number of leases.
+ *
+ * Months are passed as epoch-month indexes ({@code year * 12 + month - 1}), see {@link #monthIndex}.
+ */
+final class OccupancySweep {
+
+    /**
+     * Move-out month of a lease that has not moved out.
+     */
+    static final int OPEN = Integer.MAX_VALUE;
+
+    private final int firstMonth;
+    private final long[] deltas;
+
+    OccupancySweep(YearMonth from, int months) {
+        this.firstMonth = monthIndex(from);
+        this.deltas = new long[months + 1];
+    }
+
+    static int monthIndex(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * @param startMonth   Month index of the lease start.
+     * @param moveOutMonth Month index of the move-out, or {@link #OPEN}.
+     */
+    void add(int startMonth, int moveOutMonth) {
+        int months = deltas.length - 1;
+        long from = Math.max((long) startMonth - firstMonth, 0);
+        long to = Math.min((long) moveOutMonth - firstMonth, months);
+        if (from < to) {
+            deltas[(int) from]++;
+            deltas[(int) to]--;
+        }
+    }
+
+    /**
+     * @return Active leases at the end of each month of the window, oldest month first.
+     */
+    long[] counts() {
+        long[] counts = new long[deltas.length - 1];
+        long running = 0;
+        for (int i = 0; i < counts.length; i++) {
+            running += deltas[i];
+            counts[i] = running;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,120 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.matheus.rentify.app.reports.event.ReportDataChangedEvent;
+import com.matheus.rentify.app.reports.event.ReportDataSource;
+import com.matheus.rentify.app.shared.cache.ExpiringLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Size- and TTL-bounded cache of report results, keyed by report and parameters
+ * (for example {@code annual-income:7:2024}).
+ *
+ * Invalidation is generational: each {@link ReportDataSource} has a counter that is bumped after a
+ * transaction writing that data commits, and every entry is stored under its key plus the counters
+ * of the sources it was computed from. A stale entry is never looked up again and ages out of the
+ * LRU. A report computed while a write commits lands under the old generation, so it cannot
+ * resurrect pre-write data either.
+ *
+ * Publishes {@code reports.cache.hits}, {@code reports.cache.misses}, {@code reports.cache.evictions},
+ * {@code reports.cache.size} and {@code reports.cache.invalidations} (tagged by source).
+ */
+@Component
+public class ReportCache {
+
+    private final ExpiringLruCache<String, Object> results;
+    private final AtomicLongArray generations = new AtomicLongArray(ReportDataSource.values().length);
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<ReportDataSource, Counter> invalidations = new EnumMap<>(ReportDataSource.class);
+
+    @Autowired
+    public ReportCache(@Value("${application.reports.cache.max-entries:500}") int maxEntries,
+                       @Value("${application.reports.cache.ttl-seconds:600}") long ttlSeconds,
+                       MeterRegistry meterRegistry) {
+        this.results = new ExpiringLruCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+
+        this.hits = Counter.builder("reports.cache.hits")
+                .description("Report requests answered from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("reports.cache.misses")
+                .description("Report requests that had to compute the report")
+                .register(meterRegistry);
+        FunctionCounter.builder("reports.cache.evictions", results, ExpiringLruCache::evictionCount)
+                .description("Cached reports dropped because the cache was full or they expired")
+                .register(meterRegistry);
+        Gauge.builder("reports.cache.size", results, ExpiringLruCache::size)
+                .description("Cached report results, including superseded generations not yet evicted")
+                .register(meterRegistry);
+        for (ReportDataSource source : ReportDataSource.values()) {
+            invalidations.put(source, Counter.builder("reports.cache.invalidations")
+                    .description("Committed writes that invalidated cached reports")
+                    .tag("source", source.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Returns the cached result for {@code key}, computing and caching it on a miss.
+     *
+     * @param key     Report name and parameters. Reports that depend on the current date must include it.
+     * @param sources The data the report reads; a committed write to any of them invalidates the result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Set<ReportDataSource> sources, Supplier<T> report) {
+        String versionedKey = versionedKey(key, sources);
+        Object cached = results.get(versionedKey);
+        if (cached != null) {
+            hits.increment();
+            return (T) cached;
+        }
+
+        misses.increment();
+        T result = report.get();
+        if (result != null) {
+            results.put(versionedKey, result);
+        }
+        return result;
+    }
+
+    public void invalidate(ReportDataSource source) {
+        generations.incrementAndGet(source.ordinal());
+        invalidations.get(source).increment();
+    }
+
+    public void invalidateAll() {
+        for (ReportDataSource source : ReportDataSource.values()) {
+            invalidate(source);
+        }
+    }
+
+    /**
+     * Runs after the writing transaction commits, or immediately when there is none, so a request
+     * racing the write cannot cache data the transaction has not made visible yet.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportDataChanged(ReportDataChangedEvent event) {
+        event.sources().forEach(this::invalidate);
+    }
+
+    private String versionedKey(String key, Set<ReportDataSource> sources) {
+        StringBuilder versioned = new StringBuilder(key).append('@');
+        for (ReportDataSource source : ReportDataSource.values()) {
+            versioned.append(sources.contains(source) ? generations.get(source.ordinal()) : "-").append('.');
+        }
+        return versioned.toString();
+    }
+}
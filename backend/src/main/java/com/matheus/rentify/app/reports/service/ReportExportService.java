@@ -0,0 +1,133 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.matheus.rentify.app.landlord.repository.LandlordProfileRepository;
+import com.matheus.rentify.app.leases.repository.PaymentRepository;
+import com.matheus.rentify.app.reports.dto.response.LatePaymentResponseDTO;
+import com.matheus.rentify.app.reports.dto.response.MonthlyFinancialResponseDTO;
+import com.matheus.rentify.app.reports.repository.MonthlyFinancialRollupRepository;
+import com.matheus.rentify.app.shared.export.TabularExportFormat;
+import com.matheus.rentify.app.shared.export.TabularWriter;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes report data as CSV or XLSX straight from database cursors. Rows are converted and written
+ * as they are fetched and flushed in batches, so memory use does not grow with the export and the
+ * first bytes reach the client while the query is still being read. On MySQL this relies on
+ * {@code useCursorFetch=true}, set on the pool in {@code application.properties}; without it the
+ * driver buffers each result set whole before the first row is returned.
+ *
+ * Validate parameters with the {@code check...} methods before starting a streamed response: once
+ * the body is being written, errors can no longer change the HTTP status.
+ */
+@Service
+public class ReportExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final int MAX_ANNUAL_INCOME_YEARS = 50;
+
+    private final PaymentRepository paymentRepository;
+    private final MonthlyFinancialRollupRepository rollupRepository;
+    private final LandlordProfileRepository landlordRepository;
+    private final ReportService reportService;
+
+    @Autowired
+    public ReportExportService(PaymentRepository paymentRepository,
+                               MonthlyFinancialRollupRepository rollupRepository,
+                               LandlordProfileRepository landlordRepository,
+                               ReportService reportService) {
+        this.paymentRepository = paymentRepository;
+        this.rollupRepository = rollupRepository;
+        this.landlordRepository = landlordRepository;
+        this.reportService = reportService;
+    }
+
+    /**
+     * @throws EntityNotFoundException  If the landlord profile does not exist.
+     * @throws IllegalArgumentException If the year range is reversed or longer than 50 years.
+     */
+    @Transactional(readOnly = true)
+    public void checkAnnualIncomeExport(Long landlordId, int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("The first year must not be after the last: " + fromYear + " > " + toYear);
+        }
+        if (toYear - fromYear + 1 > MAX_ANNUAL_INCOME_YEARS) {
+            throw new IllegalArgumentException("An annual income export cannot exceed " + MAX_ANNUAL_INCOME_YEARS + " years.");
+        }
+        if (!landlordRepository.existsById(landlordId)) {
+            throw new EntityNotFoundException("Landlord Profile not found");
+        }
+    }
+
+    /**
+     * Every payment counted in the landlord's annual income reports for {@code [fromYear, toYear]},
+     * oldest first, one row per payment.
+     */
+    @Transactional(readOnly = true)
+    public void exportAnnualIncome(Long landlordId, int fromYear, int toYear,
+                                   TabularExportFormat format, OutputStream out) throws IOException {
+        try (TabularWriter writer = format.open(out, "Annual income")) {
+            writeTable(writer,
+                    new Object[]{"paymentDate", "referenceYear", "referenceMonth", "leaseId", "propertyAddress",
+                            "tenantName", "amountPaid", "lateFees", "paymentMethod"},
+                    () -> paymentRepository.streamIncomeByLandlordBetween(
+                            landlordId, LocalDate.of(fromYear, 1, 1), LocalDate.of(toYear + 1, 1, 1)),
+                    Function.identity());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportFinancialHistory(Integer year, TabularExportFormat format, OutputStream out) throws IOException {
+        try (TabularWriter writer = format.open(out, "Financial history")) {
+            writeTable(writer,
+                    new Object[]{"year", "month", "totalRevenue", "totalExpenses", "netIncome"},
+                    () -> rollupRepository.streamMonths(year),
+                    (MonthlyFinancialResponseDTO month) -> new Object[]{
+                            month.year(), month.month(), month.totalRevenue(), month.totalExpenses(), month.netIncome()});
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportLatePayments(int referenceMonth, int referenceYear,
+                                   TabularExportFormat format, OutputStream out) throws IOException {
+        try (TabularWriter writer = format.open(out, "Late payments")) {
+            writeTable(writer,
+                    new Object[]{"leaseId", "propertyAddress", "tenantName", "paymentDueDay", "referenceMonth",
+                            "rentValue", "daysLate"},
+                    () -> reportService.streamLatePayments(referenceMonth, referenceYear),
+                    (LatePaymentResponseDTO late) -> new Object[]{
+                            late.leaseId(), late.propertyAddress(), late.tenantName(), late.paymentDueDay(),
+                            late.referenceMonth(), late.rentValue(), late.daysLate()});
+        }
+    }
+
+    /**
+     * Sends the header before running the query, then the rows in batches of {@value #FLUSH_INTERVAL}.
+     */
+    private static <T> void writeTable(TabularWriter writer, Object[] header, Supplier<Stream<T>> query,
+                                       Function<T, Object[]> toCells) throws IOException {
+        writer.writeRow(header);
+        writer.flush();
+
+        try (Stream<T> rows = query.get()) {
+            int written = 0;
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(toCells.apply(iterator.next()));
+                if (++written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheus.rentify.app.reports.dto.request.ReportJobRequestDTO;
+import com.matheus.rentify.app.reports.dto.response.ReportJobResponseDTO;
+import com.matheus.rentify.app.reports.model.ReportJobStatusEnum;
+import com.matheus.rentify.app.reports.model.ReportJobTypeEnum;
+import com.matheus.rentify.app.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Runs long reports in the background so clients poll for the result instead of holding a request
+ * open past proxy timeouts. Job bodies are the unchanged {@link ReportService} methods.
+ *
+ * Jobs run on a bounded pool; when it is full, or the submitting user already has
+ * {@code max-per-user} jobs queued or running, submission fails with {@link ServiceOverloadedException}.
+ * Results are written as JSON to {@code storage-dir} and kept for {@code retention-minutes} after the
+ * job finishes. Job state lives in memory, so files left over from a previous run are deleted on startup.
+ *
+ * Publishes {@code reports.jobs.queue.depth}, {@code reports.jobs.active} and {@code reports.jobs.rejected}.
+ */
+@Service
+public class ReportJobService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobService.class);
+
+    private static final int MAX_ANNUAL_INCOME_YEARS = 20;
+    private static final String RESULT_SUFFIX = ".json";
+
+    private final ReportService reportService;
+    private final ObjectMapper objectMapper;
+    private final Path storageDir;
+    private final Duration retention;
+    private final int maxJobsPerUser;
+    private final Clock clock;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+    private final ConcurrentHashMap<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    // Only owners with jobs queued or running have an entry.
+    private final ConcurrentHashMap<String, Integer> activeJobsByOwner = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportJobService(ReportService reportService,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${application.reports.jobs.threads:2}") int threads,
+                            @Value("${application.reports.jobs.queue-capacity:20}") int queueCapacity,
+                            @Value("${application.reports.jobs.max-per-user:2}") int maxJobsPerUser,
+                            @Value("${application.reports.jobs.retention-minutes:60}") long retentionMinutes,
+                            @Value("${application.reports.jobs.storage-dir:${java.io.tmpdir}/rentify-report-jobs}") String storageDir) {
+        this(reportService, objectMapper, meterRegistry, threads, queueCapacity, maxJobsPerUser,
+                Duration.ofMinutes(retentionMinutes), Path.of(storageDir), Clock.systemDefaultZone());
+    }
+
+    ReportJobService(ReportService reportService, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                     int threads, int queueCapacity, int maxJobsPerUser,
+                     Duration retention, Path storageDir, Clock clock) {
+        this.reportService = reportService;
+        this.objectMapper = objectMapper;
+        this.maxJobsPerUser = Math.max(maxJobsPerUser, 1);
+        this.retention = retention;
+        this.storageDir = storageDir;
+        this.clock = clock;
+        this.executor = new ThreadPoolExecutor(
+                Math.max(threads, 1), Math.max(threads, 1),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                new CustomizableThreadFactory("report-job-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.rejections = Counter.builder("reports.jobs.rejected")
+                .description("Report jobs refused because the pool or the user's job limit was full")
+                .register(meterRegistry);
+        Gauge.builder("reports.jobs.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Report jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("reports.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Report jobs currently running")
+                .register(meterRegistry);
+
+        prepareStorage();
+    }
+
+    /**
+     * Validates the request and queues the report.
+     *
+     * @param owner Username of the submitter; only they can read the job.
+     * @throws IllegalArgumentException   If a parameter the report type needs is missing or invalid.
+     * @throws ServiceOverloadedException If the pool is full or the user has too many jobs in progress.
+     */
+    public ReportJobResponseDTO submit(ReportJobRequestDTO request, String owner) {
+        purgeExpired();
+        Supplier<Object> body = jobBody(request);
+
+        if (activeJobsByOwner.merge(owner, 1, Integer::sum) > maxJobsPerUser) {
+            release(owner);
+            rejections.increment();
+            throw new ServiceOverloadedException("You already have " + maxJobsPerUser + " reports in progress. Please wait for one to finish.");
+        }
+
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), request.type(), owner, clock.instant());
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, body));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            release(owner);
+            rejections.increment();
+            throw new ServiceOverloadedException("Too many reports are being generated. Please try again shortly.");
+        }
+        return toResponseDTO(job, null);
+    }
+
+    /**
+     * @return The job's status, with the report once it has completed.
+     * @throws EntityNotFoundException If the job does not exist, has expired or belongs to another user.
+     */
+    public ReportJobResponseDTO getJob(String id, String owner) {
+        purgeExpired();
+        ReportJob job = jobs.get(id);
+        if (job == null || !job.owner.equals(owner)) {
+            throw new EntityNotFoundException("Report job not found with id: " + id);
+        }
+
+        if (job.status != ReportJobStatusEnum.COMPLETED) {
+            return toResponseDTO(job, null);
+        }
+        try {
+            return toResponseDTO(job, objectMapper.readTree(resultFile(job.id).toFile()));
+        } catch (IOException e) {
+            throw new EntityNotFoundException("Result of report job " + id + " is no longer available");
+        }
+    }
+
+    private Supplier<Object> jobBody(ReportJobRequestDTO request) {
+        return switch (request.type()) {
+            case FINANCIAL_HISTORY -> () -> reportService.getFinancialHistory(request.year());
+            case ANNUAL_INCOME -> annualIncomeBody(request);
+            case LATE_PAYMENT_MATRIX -> {
+                requireWindow(request, ReportService.MAX_MATRIX_MONTHS);
+                yield () -> reportService.getLatePaymentMatrix(request.fromYearMonth(), request.toYearMonth());
+            }
+            case OCCUPANCY_HISTORY -> {
+                requireWindow(request, ReportService.MAX_OCCUPANCY_MONTHS);
+                yield () -> reportService.getOccupancyHistory(request.fromYearMonth(), request.toYearMonth());
+            }
+        };
+    }
+
+    private Supplier<Object> annualIncomeBody(ReportJobRequestDTO request) {
+        if (request.landlordProfileId() == null || request.year() == null) {
+            throw new IllegalArgumentException("landlordProfileId and year are required for " + ReportJobTypeEnum.ANNUAL_INCOME);
+        }
+        int fromYear = request.year();
+        int toYear = request.toYear() != null ? request.toYear() : fromYear;
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("The first year must not be after the last: " + fromYear + " > " + toYear);
+        }
+        if (toYear - fromYear + 1 > MAX_ANNUAL_INCOME_YEARS) {
+            throw new IllegalArgumentException("An annual income job cannot exceed " + MAX_ANNUAL_INCOME_YEARS + " years.");
+        }
+
+        Long landlordProfileId = request.landlordProfileId();
+        return () -> IntStream.rangeClosed(fromYear, toYear)
+                .mapToObj(year -> reportService.generateAnnualIncomeReport(landlordProfileId, year))
+                .toList();
+    }
+
+    private static void requireWindow(ReportJobRequestDTO request, int maxMonths) {
+        if (request.fromYearMonth() == null || request.toYearMonth() == null) {
+            throw new IllegalArgumentException("fromYearMonth and toYearMonth are required for " + request.type());
+        }
+        ReportService.windowMonths(request.fromYearMonth(), request.toYearMonth(), maxMonths);
+    }
+
+    private void release(String owner) {
+        activeJobsByOwner.computeIfPresent(owner, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void run(ReportJob job, Supplier<Object> body) {
+        job.status = ReportJobStatusEnum.RUNNING;
+        ReportJobStatusEnum outcome = ReportJobStatusEnum.FAILED;
+        try {
+            writeResult(job.id, body.get());
+            outcome = ReportJobStatusEnum.COMPLETED;
+        } catch (IllegalArgumentException | IllegalStateException | EntityNotFoundException e) {
+            job.error = e.getMessage();
+        } catch (RuntimeException e) {
+            log.error("Report job {} ({}) failed", job.id, job.type, e);
+            job.error = "An unexpected error occurred while generating the report.";
+        } finally {
+            job.completedAt = clock.instant();
+            release(job.owner);
+            job.status = outcome;
+        }
+    }
+
+    private void writeResult(String id, Object result) {
+        Path target = resultFile(id);
+        Path partial = storageDir.resolve(id + RESULT_SUFFIX + ".part");
+        try {
+            objectMapper.writeValue(partial.toFile(), result);
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store the result of report job " + id, e);
+        }
+    }
+
+    private void purgeExpired() {
+        Instant now = clock.instant();
+        jobs.values().removeIf(job -> {
+            Instant completedAt = job.completedAt;
+            if (completedAt == null || completedAt.plus(retention).isAfter(now)) {
+                return false;
+            }
+            deleteQuietly(resultFile(job.id));
+            return true;
+        });
+    }
+
+    private void prepareStorage() {
+        try {
+            Files.createDirectories(storageDir);
+            try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(storageDir, "*" + RESULT_SUFFIX + "*")) {
+                leftovers.forEach(ReportJobService::deleteQuietly);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare report job storage at " + storageDir, e);
+        }
+    }
+
+    private Path resultFile(String id) {
+        return storageDir.resolve(id + RESULT_SUFFIX);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report job file {}", file, e);
+        }
+    }
+
+    private ReportJobResponseDTO toResponseDTO(ReportJob job, JsonNode result) {
+        Instant completedAt = job.completedAt;
+        return new ReportJobResponseDTO(
+                job.id,
+                job.type,
+                job.status,
+                toLocalDateTime(job.submittedAt),
+                toLocalDateTime(completedAt),
+                completedAt != null ? toLocalDateTime(completedAt.plus(retention)) : null,
+                job.error,
+                result
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, clock.getZone()) : null;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static final class ReportJob {
+
+        private final String id;
+        private final ReportJobTypeEnum type;
+        private final String owner;
+        private final Instant submittedAt;
+        private volatile ReportJobStatusEnum status = ReportJobStatusEnum.QUEUED;
+        private volatile String error;
+        private volatile Instant completedAt;
+
+        private ReportJob(String id, ReportJobTypeEnum type, String owner, Instant submittedAt) {
+            this.id = id;
+            this.type = type;
+            this.owner = owner;
+            this.submittedAt = submittedAt;
+        }
+    }
+}
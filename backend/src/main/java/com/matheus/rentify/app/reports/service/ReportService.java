@@ -4,17 +4,19 @@ import com.matheus.rentify.app.landlord.model.LandlordProfile;
 import com.matheus.rentify.app.landlord.repository.LandlordProfileRepository;
 import com.matheus.rentify.app.leases.model.Lease;
 import com.matheus.rentify.app.leases.model.LeaseStatusEnum;
-import com.matheus.rentify.app.leases.model.Payment;
 import com.matheus.rentify.app.leases.repository.LeaseRepository;
 import com.matheus.rentify.app.leases.repository.PaymentRepository;
-import com.matheus.rentify.app.properties.model.MaintenanceJob;
-import com.matheus.rentify.app.properties.model.MaintenanceStatusEnum;
-import com.matheus.rentify.app.properties.repository.MaintenanceJobRepository;
-import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
 import com.matheus.rentify.app.reports.dto.response.*;
 import com.matheus.rentify.app.reports.model.ActivityTypeEnum;
+import com.matheus.rentify.app.reports.model.DashboardCounters;
+import com.matheus.rentify.app.shared.concurrent.SingleFlight;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
+import com.matheus.rentify.app.shared.util.CursorCodec;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,27 +29,38 @@ import java.time.format.TextStyle;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ReportService {
 
-    private final PropertyRepository propertyRepository;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int RECENT_ACTIVITY_LIMIT = 5;
+    private static final int EXPIRING_LEASE_DAYS = 30;
+    private static final int MAX_DUE_DAY = 31;
+    static final int MAX_MATRIX_MONTHS = 120;
+    static final int MAX_OCCUPANCY_MONTHS = 600;
+    private static final char PAID = '1';
+    private static final char MISSED = '0';
+    private static final char NOT_DUE = '.';
+
     private final PaymentRepository paymentRepository;
-    private final MaintenanceJobRepository maintenanceJobRepository;
     private final LeaseRepository leaseRepository;
     private final LandlordProfileRepository landlordRepository; // Nova injeção
+    private final DashboardCountersService dashboardCountersService;
+    private final FinancialRollupService financialRollupService;
 
     @Autowired
-    public ReportService(PropertyRepository propertyRepository,
-                         PaymentRepository paymentRepository,
-                         MaintenanceJobRepository maintenanceJobRepository,
+    public ReportService(PaymentRepository paymentRepository,
                          LeaseRepository leaseRepository,
-                         LandlordProfileRepository landlordRepository) {
-        this.propertyRepository = propertyRepository;
+                         LandlordProfileRepository landlordRepository,
+                         DashboardCountersService dashboardCountersService,
+                         FinancialRollupService financialRollupService) {
         this.paymentRepository = paymentRepository;
-        this.maintenanceJobRepository = maintenanceJobRepository;
         this.leaseRepository = leaseRepository;
         this.landlordRepository = landlordRepository;
+        this.dashboardCountersService = dashboardCountersService;
+        this.financialRollupService = financialRollupService;
     }
 
     @Transactional(readOnly = true)
@@ -55,7 +68,9 @@ public class ReportService {
         LandlordProfile profile = landlordRepository.findById(landlordId)
                 .orElseThrow(() -> new EntityNotFoundException("Landlord Profile not found"));
 
-        List<Object[]> rawData = paymentRepository.findMonthlyIncomeByLandlordAndYear(landlordId, year);
+        LocalDate firstDayOfYear = LocalDate.of(year, 1, 1);
+        List<Object[]> rawData = paymentRepository.findMonthlyIncomeByLandlordBetween(
+                landlordId, firstDayOfYear, firstDayOfYear.plusYears(1));
 
         Map<Integer, BigDecimal> incomeMap = rawData.stream()
                 .collect(Collectors.toMap(
@@ -87,12 +102,15 @@ public class ReportService {
         );
     }
 
+    @SingleFlight
     @Transactional(readOnly = true)
     public DashboardSummaryResponseDTO getDashboardSummary() {
-        long totalProps = propertyRepository.countTotalProperties();
-        long availableProps = propertyRepository.countAvailableProperties();
-        long rentedProps = propertyRepository.countRentedProperties();
-        long maintenanceProps = propertyRepository.countMaintenanceProperties();
+        DashboardCounters counters = dashboardCountersService.snapshot();
+
+        long totalProps = counters.totalProperties();
+        long availableProps = counters.propertiesWithStatus(PropertyStatusEnum.AVAILABLE);
+        long rentedProps = counters.propertiesWithStatus(PropertyStatusEnum.RENTED);
+        long maintenanceProps = counters.propertiesWithStatus(PropertyStatusEnum.UNDER_MAINTENANCE);
 
         double currentOccupancyRate = 0.0;
         if (totalProps > 0) {
@@ -100,24 +118,13 @@ public class ReportService {
             currentOccupancyRate = Math.round(currentOccupancyRate * 100.0) / 100.0;
         }
 
-        LocalDate now = LocalDate.now();
-        BigDecimal currentRevenue = paymentRepository.sumRevenueByMonthAndYear(now.getMonthValue(), now.getYear());
-        if (currentRevenue == null) currentRevenue = BigDecimal.ZERO;
-
-        BigDecimal outstandingMaintenance = maintenanceJobRepository.sumOutstandingCosts(
-                Arrays.asList(MaintenanceStatusEnum.PENDING, MaintenanceStatusEnum.IN_PROGRESS)
-        );
-        if (outstandingMaintenance == null) outstandingMaintenance = BigDecimal.ZERO;
-
-        LocalDate lastMonthDate = now.minusMonths(1);
-
-        BigDecimal lastMonthRevenue = paymentRepository.sumRevenueByMonthAndYear(lastMonthDate.getMonthValue(), lastMonthDate.getYear());
-        if (lastMonthRevenue == null) lastMonthRevenue = BigDecimal.ZERO;
+        BigDecimal currentRevenue = counters.currentMonthRevenue();
+        BigDecimal outstandingMaintenance = counters.outstandingMaintenanceCosts();
+        BigDecimal lastMonthRevenue = counters.lastMonthRevenue();
 
         Double revenueChange = calculatePercentageChange(currentRevenue, lastMonthRevenue);
 
-        LocalDate endOfLastMonth = now.withDayOfMonth(1).minusDays(1);
-        long rentedLastMonth = leaseRepository.countActiveLeasesOnDate(endOfLastMonth);
+        long rentedLastMonth = counters.activeLeasesEndOfLastMonth();
 
         double lastMonthOccupancyRate = 0.0;
         if (totalProps > 0) {
@@ -143,111 +150,49 @@ public class ReportService {
         );
     }
 
+    public DashboardCountersRebuildResponseDTO rebuildDashboardCounters() {
+        return dashboardCountersService.rebuild();
+    }
+
     @Transactional(readOnly = true)
     public List<DashboardActivityResponseDTO> getRecentActivities() {
-        List<DashboardActivityResponseDTO> activities = new ArrayList<>();
-
-        List<Payment> recentPayments = paymentRepository.findTop5ByOrderByPaymentDateDesc();
-        for (Payment p : recentPayments) {
-            activities.add(new DashboardActivityResponseDTO(
-                    ActivityTypeEnum.PAYMENT,
-                    "Pagamento recebido de " + p.getLease().getTenant().getFullName(),
-                    p.getLease().getProperty().getAddress(),
-                    p.getAmountPaid(),
-                    p.getPaymentDate(),
-                    p.getId(),
-                    null
-            ));
-        }
-
-        List<MaintenanceJob> recentJobs = maintenanceJobRepository.findTop5ByOrderByRequestDateDesc();
-        for (MaintenanceJob job : recentJobs) {
-            activities.add(new DashboardActivityResponseDTO(
-                    ActivityTypeEnum.MAINTENANCE,
-                    "Manutenção: " + job.getMaintenanceStatus(),
-                    job.getServiceDescription(),
-                    job.getTotalCost(),
-                    job.getRequestDate(),
-                    job.getId(),
-                    null
-            ));
-        }
-
         LocalDate today = LocalDate.now();
-        List<Lease> expiringLeases = leaseRepository.findExpiringLeases(
-                today,
-                today.plusDays(30),
-                LeaseStatusEnum.ACTIVE
-        );
-
-        for (Lease lease : expiringLeases) {
-            long daysLeft = ChronoUnit.DAYS.between(today, lease.getEndDate());
-            activities.add(new DashboardActivityResponseDTO(
-                    ActivityTypeEnum.EXPIRING_LEASE,
-                    "Contrato vencendo",
-                    lease.getProperty().getAddress(),
-                    null,
-                    lease.getEndDate(),
-                    lease.getId(),
-                    daysLeft
-            ));
+        List<Object[]> rows = leaseRepository.findRecentActivityRows(today, today.plusDays(EXPIRING_LEASE_DAYS), RECENT_ACTIVITY_LIMIT);
+
+        List<DashboardActivityResponseDTO> activities = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ActivityTypeEnum type = ActivityTypeEnum.valueOf(((String) row[0]).strip());
+            String detail = (String) row[1];
+            LocalDate date = toLocalDate(row[4]);
+            long relatedId = ((Number) row[5]).longValue();
+
+            activities.add(switch (type) {
+                case PAYMENT -> new DashboardActivityResponseDTO(
+                        type, "Pagamento recebido de " + detail, (String) row[2], (BigDecimal) row[3], date, relatedId, null);
+                case MAINTENANCE -> new DashboardActivityResponseDTO(
+                        type, "Manutenção: " + detail, (String) row[2], (BigDecimal) row[3], date, relatedId, null);
+                case EXPIRING_LEASE -> new DashboardActivityResponseDTO(
+                        type, "Contrato vencendo", (String) row[2], null, date, relatedId, ChronoUnit.DAYS.between(today, date));
+            });
         }
+        return activities;
+    }
 
-        return activities.stream()
-                .sorted(Comparator.comparing(DashboardActivityResponseDTO::date).reversed())
-                .limit(5)
-                .collect(Collectors.toList());
+    /**
+     * Native queries hand dates back as {@link java.sql.Date} or {@link LocalDate} depending on the driver.
+     */
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) value;
     }
 
+    @SingleFlight
     @Transactional(readOnly = true)
     public List<MonthlyFinancialResponseDTO> getFinancialHistory(Integer filterYear) {
-        Map<YearMonth, MonthlyFinancialResponseDTO> historyMap = new HashMap<>();
-
-        List<Object[]> revenueData = paymentRepository.findMonthlyRevenueGrouped();
-        for (Object[] row : revenueData) {
-            Integer year = (Integer) row[0];
-            Integer month = (Integer) row[1];
-            BigDecimal amount = (BigDecimal) row[2];
-
-            if (filterYear != null && !filterYear.equals(year)) {
-                continue;
-            }
-
-            YearMonth key = YearMonth.of(year, month);
-            historyMap.put(key, new MonthlyFinancialResponseDTO(month, year, amount, BigDecimal.ZERO, amount));
-        }
-
-        List<Object[]> expenseData = maintenanceJobRepository.findMonthlyExpensesGrouped();
-        for (Object[] row : expenseData) {
-            Integer year = (Integer) row[0];
-            Integer month = (Integer) row[1];
-            BigDecimal amount = (BigDecimal) row[2];
-
-            if (filterYear != null && !filterYear.equals(year)) {
-                continue;
-            }
-
-            YearMonth key = YearMonth.of(year, month);
-            if (historyMap.containsKey(key)) {
-                MonthlyFinancialResponseDTO existing = historyMap.get(key);
-                BigDecimal netIncome = existing.totalRevenue().subtract(amount);
-                historyMap.put(key, new MonthlyFinancialResponseDTO(
-                        existing.month(),
-                        existing.year(),
-                        existing.totalRevenue(),
-                        amount,
-                        netIncome
-                ));
-            } else {
-                BigDecimal netIncome = BigDecimal.ZERO.subtract(amount);
-                historyMap.put(key, new MonthlyFinancialResponseDTO(month, year, BigDecimal.ZERO, amount, netIncome));
-            }
-        }
+        return financialRollupService.getMonths(filterYear);
+    }
 
-        return historyMap.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(Map.Entry::getValue)
-                .collect(Collectors.toList());
+    public List<MonthlyFinancialResponseDTO> rebuildFinancialHistory() {
+        return financialRollupService.rebuild();
     }
 
     @Transactional(readOnly = true)
@@ -278,40 +223,168 @@ public class ReportService {
 
     @Transactional(readOnly = true)
     public List<LatePaymentResponseDTO> getLatePayments(int referenceMonth, int referenceYear) {
+        return findLatePayments(referenceMonth, referenceYear, 0L, Pageable.unpaged());
+    }
+
+    /**
+     * Every row of {@link #getLatePayments(int, int)}, read through a database cursor. The caller
+     * must consume the stream inside a read-only transaction and close it.
+     */
+    public Stream<LatePaymentResponseDTO> streamLatePayments(int referenceMonth, int referenceYear) {
         LocalDate today = LocalDate.now();
-        List<Lease> activeLeases = leaseRepository.findAllByStatus(LeaseStatusEnum.ACTIVE);
-        List<Long> paidLeaseIds = paymentRepository.findLeaseIdsWithPaymentInMonth(referenceMonth, referenceYear);
+        YearMonth reference = YearMonth.of(referenceYear, referenceMonth);
 
-        Set<Long> paidLeaseIdsSet = new HashSet<>(paidLeaseIds);
+        return leaseRepository.streamLatePayments(LeaseStatusEnum.ACTIVE, referenceMonth, referenceYear,
+                lastOverdueDueDay(reference, today), ChronoUnit.DAYS.between(reference.atDay(1), today), 0L);
+    }
 
-        return activeLeases.stream()
-                .filter(lease -> !paidLeaseIdsSet.contains(lease.getId()))
-                .map(lease -> {
-                    LocalDate dueDate = LocalDate.of(referenceYear, referenceMonth, lease.getPaymentDueDay());
+    /**
+     * Keyset-paginated variant of {@link #getLatePayments(int, int)}, ordered by lease id.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<LatePaymentResponseDTO> getLatePaymentsPage(int referenceMonth, int referenceYear,
+                                                                             String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Long lastSeenId = CursorCodec.decode(cursor);
 
-                    if (referenceMonth == today.getMonthValue() && referenceYear == today.getYear()) {
-                        if (today.getDayOfMonth() <= lease.getPaymentDueDay()) {
-                            return null;
-                        }
-                    }
+        List<LatePaymentResponseDTO> rows = findLatePayments(referenceMonth, referenceYear,
+                lastSeenId != null ? lastSeenId : 0L, PageRequest.ofSize(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<LatePaymentResponseDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(page.get(page.size() - 1).leaseId()) : null;
 
-                    long daysLate = 0;
-                    if (today.isAfter(dueDate)) {
-                        daysLate = ChronoUnit.DAYS.between(dueDate, today);
+        return new CursorPageResponseDTO<>(page, nextCursor, hasNext);
+    }
+
+    /**
+     * Leases active at the end of every month between {@code from} and {@code to}, inclusive.
+     *
+     * The lease intervals overlapping the window are streamed once as month indexes and folded into
+     * an {@link OccupancySweep}, so the cost is one query plus a pass over the leases, instead of one
+     * {@code countActiveLeasesOnDate} per month. Rates are relative to the current property count,
+     * as on the dashboard summary.
+     */
+    @Transactional(readOnly = true)
+    public List<MonthlyOccupancyResponseDTO> getOccupancyHistory(YearMonth from, YearMonth to) {
+        int windowMonths = windowMonths(from, to, MAX_OCCUPANCY_MONTHS);
+
+        OccupancySweep sweep = new OccupancySweep(from, windowMonths);
+        try (Stream<Object[]> intervals = leaseRepository.streamOccupancyIntervals(from.atEndOfMonth(), to.atEndOfMonth())) {
+            intervals.forEach(row -> sweep.add(
+                    ((Number) row[0]).intValue(),
+                    row[1] != null ? ((Number) row[1]).intValue() : OccupancySweep.OPEN));
+        }
+        long[] occupied = sweep.counts();
+
+        long totalProperties = dashboardCountersService.snapshot().totalProperties();
+        List<MonthlyOccupancyResponseDTO> history = new ArrayList<>(windowMonths);
+        for (int i = 0; i < windowMonths; i++) {
+            YearMonth month = from.plusMonths(i);
+            double rate = totalProperties > 0 ? Math.round((double) occupied[i] / totalProperties * 10000) / 100.0 : 0.0;
+            history.add(new MonthlyOccupancyResponseDTO(month.getMonthValue(), month.getYear(), occupied[i], rate));
+        }
+        return history;
+    }
+
+    /**
+     * Builds the paid/missed month string of every active lease over {@code [from, to]} from a
+     * single query. Months before the lease started, in the future, or in the current month before
+     * the due day are marked as not due. Only leases with at least one missed month are returned.
+     */
+    @Transactional(readOnly = true)
+    public LatePaymentMatrixResponseDTO getLatePaymentMatrix(YearMonth from, YearMonth to) {
+        int windowMonths = windowMonths(from, to, MAX_MATRIX_MONTHS);
+
+        List<Object[]> rows = leaseRepository.findPaidMonthsByLease(LeaseStatusEnum.ACTIVE, from.getYear(), to.getYear());
+
+        LocalDate today = LocalDate.now();
+        List<LatePaymentMatrixRowDTO> leases = new ArrayList<>();
+        int index = 0;
+        while (index < rows.size()) {
+            Object[] first = rows.get(index);
+            Long leaseId = (Long) first[0];
+            int dueDay = (Integer) first[3];
+            LocalDate startDate = (LocalDate) first[5];
+
+            BitSet paid = new BitSet(windowMonths);
+            for (; index < rows.size() && leaseId.equals(rows.get(index)[0]); index++) {
+                Object[] row = rows.get(index);
+                if (row[6] != null) {
+                    long offset = ChronoUnit.MONTHS.between(from, YearMonth.of((Integer) row[6], (Integer) row[7]));
+                    if (offset >= 0 && offset < windowMonths) {
+                        paid.set((int) offset);
                     }
+                }
+            }
 
-                    return new LatePaymentResponseDTO(
-                            lease.getId(),
-                            lease.getProperty().getAddress(),
-                            lease.getTenant().getFullName(),
-                            lease.getPaymentDueDay(),
-                            referenceMonth,
-                            lease.getBaseRentValue(),
-                            daysLate
-                    );
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+            char[] months = new char[windowMonths];
+            int missed = 0;
+            for (int i = 0; i < windowMonths; i++) {
+                YearMonth month = from.plusMonths(i);
+                if (paid.get(i)) {
+                    months[i] = PAID;
+                } else if (isDue(month, dueDay, startDate, today)) {
+                    months[i] = MISSED;
+                    missed++;
+                } else {
+                    months[i] = NOT_DUE;
+                }
+            }
+
+            if (missed > 0) {
+                leases.add(new LatePaymentMatrixRowDTO(leaseId, (String) first[1], (String) first[2], dueDay,
+                        (BigDecimal) first[4], new String(months), missed));
+            }
+        }
+
+        return new LatePaymentMatrixResponseDTO(from, to, "1 = paid, 0 = missed, . = not due", leases);
+    }
+
+    /**
+     * A lease is late when it has no payment for the reference month. In the current month only
+     * leases whose due day has already passed count; the days late are measured from the due day.
+     */
+    private List<LatePaymentResponseDTO> findLatePayments(int referenceMonth, int referenceYear,
+                                                          long afterLeaseId, Pageable limit) {
+        LocalDate today = LocalDate.now();
+        YearMonth reference = YearMonth.of(referenceYear, referenceMonth);
+        long daysSinceMonthStart = ChronoUnit.DAYS.between(reference.atDay(1), today);
+
+        return leaseRepository.findLatePayments(LeaseStatusEnum.ACTIVE, referenceMonth, referenceYear,
+                lastOverdueDueDay(reference, today), daysSinceMonthStart, afterLeaseId, limit);
+    }
+
+    /**
+     * @return The number of months in {@code [from, to]}.
+     * @throws IllegalArgumentException If {@code from} is after {@code to} or the window exceeds {@code maxMonths}.
+     */
+    static int windowMonths(YearMonth from, YearMonth to, int maxMonths) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("The window start must not be after its end: " + from + " > " + to);
+        }
+        int windowMonths = (int) ChronoUnit.MONTHS.between(from, to) + 1;
+        if (windowMonths > maxMonths) {
+            throw new IllegalArgumentException("The window cannot exceed " + maxMonths + " months.");
+        }
+        return windowMonths;
+    }
+
+    private static int lastOverdueDueDay(YearMonth reference, LocalDate today) {
+        return reference.equals(YearMonth.from(today))
+                ? today.getDayOfMonth() - 1
+                : MAX_DUE_DAY;
+    }
+
+    private static boolean isDue(YearMonth month, int dueDay, LocalDate startDate, LocalDate today) {
+        if (startDate != null && month.isBefore(YearMonth.from(startDate))) {
+            return false;
+        }
+        YearMonth currentMonth = YearMonth.from(today);
+        if (month.isAfter(currentMonth)) {
+            return false;
+        }
+        return !month.equals(currentMonth) || today.getDayOfMonth() > dueDay;
     }
 
     private Double calculatePercentageChange(BigDecimal current, BigDecimal previous) {
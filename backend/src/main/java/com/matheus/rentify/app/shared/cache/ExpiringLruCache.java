@@ -0,0 +1,106 @@
+package com.matheus.rentify.app.shared.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small thread-safe LRU map whose entries also expire after a time-to-live or at an explicit instant.
+ *
+ * Once {@code maxEntries} is reached the least recently read entry is dropped. Expired entries are
+ * removed lazily when read. A cache built with {@code maxEntries <= 0} is disabled and stores nothing.
+ * {@link #evictionCount()} counts both kinds of removal, for sizing the cache.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long evictions;
+
+    public ExpiringLruCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxEntries, Duration ttl, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > ExpiringLruCache.this.maxEntries;
+                if (evict) {
+                    evictions++;
+                }
+                return evict;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * @return The cached value, or {@code null} when absent or expired.
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key);
+            evictions++;
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Stores the value until the cache's time-to-live elapses.
+     */
+    public void put(K key, V value) {
+        put(key, value, null);
+    }
+
+    /**
+     * Stores the value until {@code expiresAt} or the cache's time-to-live, whichever comes first.
+     * Pass {@code null} to rely on the time-to-live alone.
+     */
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        if (!isEnabled()) {
+            return;
+        }
+        Instant ttlExpiry = ttl != null ? clock.instant().plus(ttl) : Instant.MAX;
+        Instant expiry = expiresAt != null && expiresAt.isBefore(ttlExpiry) ? expiresAt : ttlExpiry;
+        entries.put(key, new Entry<>(value, expiry));
+    }
+
+    public synchronized void evict(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return Entries dropped so far because the cache was full or they had expired. Explicit
+     * {@link #evict} and {@link #clear} calls are not counted.
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+}
@@ -0,0 +1,31 @@
+package com.matheus.rentify.app.shared.concurrent;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an expensive read method whose concurrent calls with equal arguments should share one
+ * execution. While a call is running, identical calls wait for it and receive the same result
+ * (or exception) instead of running the method again. Nothing is kept once the call finishes.
+ *
+ * Arguments are compared with {@code equals}. The result object is handed to every waiting
+ * caller, so callers must not modify it. A caller already inside a transaction may receive a
+ * result computed by another caller's transaction, so reserve it for reads that do not need to see
+ * the caller's own uncommitted writes. Meant for beans proxied by Spring; self-invocation bypasses
+ * it, as with {@code @Transactional}.
+ *
+ * @see SingleFlightGroup
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+
+    /**
+     * Name shared by the flights of this method. Defaults to the declaring class and method name.
+     */
+    String value() default "";
+}
@@ -0,0 +1,78 @@
+package com.matheus.rentify.app.shared.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-key in-flight deduplication. The first caller for a key runs the computation; callers
+ * arriving with the same key before it finishes block until it does and get its result. The key
+ * is forgotten as soon as the computation completes, so this never serves stale data.
+ *
+ * Publishes {@code single.flight.shared}, the number of calls answered by another caller's execution.
+ */
+@Component
+public class SingleFlightGroup {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter shared;
+
+    @Autowired
+    public SingleFlightGroup(MeterRegistry meterRegistry) {
+        this.shared = Counter.builder("single.flight.shared")
+                .description("Calls that waited for an identical in-flight call instead of running it again")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key Identifies the computation; keys are compared with {@code equals}.
+     * @throws RuntimeException Whatever {@code computation} threw, rethrown to every caller that shared it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> computation) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return (T) await(existing);
+        }
+
+        try {
+            T result = computation.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return Keys currently being computed.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
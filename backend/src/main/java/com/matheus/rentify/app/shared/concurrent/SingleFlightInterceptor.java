@@ -0,0 +1,51 @@
+package com.matheus.rentify.app.shared.concurrent;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routes calls to {@link SingleFlight} methods through the {@link SingleFlightGroup}, keyed by the
+ * flight name and the call's arguments.
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<SingleFlightGroup> group;
+
+    public SingleFlightInterceptor(ObjectProvider<SingleFlightGroup> group) {
+        this.group = group;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        List<Object> key = List.of(flightName(invocation), Arrays.asList(invocation.getArguments()));
+        try {
+            return group.getObject().execute(key, () -> {
+                try {
+                    return invocation.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            });
+        } catch (UndeclaredThrowableException e) {
+            throw e.getUndeclaredThrowable();
+        }
+    }
+
+    private static String flightName(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        SingleFlight singleFlight = AnnotatedElementUtils.findMergedAnnotation(method, SingleFlight.class);
+        if (singleFlight != null && !singleFlight.value().isEmpty()) {
+            return singleFlight.value();
+        }
+        return method.getDeclaringClass().getName() + "." + method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+}
@@ -0,0 +1,35 @@
+package com.matheus.rentify.app.shared.controller;
+
+import com.matheus.rentify.app.shared.dto.request.AmountInWordsRequestDTO;
+import com.matheus.rentify.app.shared.dto.response.AmountInWordsResponseDTO;
+import com.matheus.rentify.app.shared.service.AmountInWordsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/amounts")
+@Tag(name = "Amounts", description = "Endpoints for writing monetary amounts out in full")
+public class AmountInWordsController {
+
+    private final AmountInWordsService amountInWordsService;
+
+    @Autowired
+    public AmountInWordsController(AmountInWordsService amountInWordsService) {
+        this.amountInWordsService = amountInWordsService;
+    }
+
+    @PostMapping("/in-words")
+    @Operation(summary = "Spell out several amounts in BRL, in request order (for contracts and documents)")
+    public ResponseEntity<List<AmountInWordsResponseDTO>> spellAmounts(@Valid @RequestBody AmountInWordsRequestDTO requestDTO) {
+        return ResponseEntity.ok(amountInWordsService.inWords(requestDTO.amounts()));
+    }
+}
@@ -3,15 +3,19 @@ package com.matheus.rentify.app.shared.controller;
 import com.matheus.rentify.app.shared.dto.response.CityResponseDTO;
 import com.matheus.rentify.app.shared.dto.response.StateResponseDTO;
 import com.matheus.rentify.app.shared.service.LocationService;
+import com.matheus.rentify.app.shared.web.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -19,31 +23,39 @@ import java.util.List;
 @Tag(name = "Locations", description = "Endpoints for retrieving states and cities")
 public class LocationController {
 
+    private static final CacheControl REFERENCE_DATA_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
     private final LocationService locationService;
+    private final ConditionalGet conditionalGet;
 
     @Autowired
-    public LocationController(LocationService locationService) {
+    public LocationController(LocationService locationService, ConditionalGet conditionalGet) {
         this.locationService = locationService;
+        this.conditionalGet = conditionalGet;
     }
 
     @GetMapping("/states")
     @Operation(summary = "Get all states")
-    public ResponseEntity<List<StateResponseDTO>> getAllState() {
-        return ResponseEntity.ok(locationService.getAllStates());
+    public ResponseEntity<List<StateResponseDTO>> getAllState(WebRequest request) {
+        return conditionalGet.respond(request, locationService.getReferenceDataTag(), REFERENCE_DATA_CACHE,
+                locationService::getAllStates);
     }
 
     @GetMapping("/cities")
     @Operation(summary = "Get cities for a specific state")
-    public ResponseEntity<List<CityResponseDTO>> getAllCitiesByState(@RequestParam Long stateId) {
-        return ResponseEntity.ok(locationService.getAllCitiesByState(stateId));
+    public ResponseEntity<List<CityResponseDTO>> getAllCitiesByState(@RequestParam Long stateId, WebRequest request) {
+        return conditionalGet.respond(request, locationService.getReferenceDataTag(), REFERENCE_DATA_CACHE,
+                () -> locationService.getAllCitiesByState(stateId));
     }
 
     @GetMapping("/cities/search")
     @Operation(summary = "Search cities by name (autocomplete)")
     public ResponseEntity<List<CityResponseDTO>> searchCities(
             @RequestParam String query,
-            @RequestParam(required = false) Long stateId
+            @RequestParam(required = false) Long stateId,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(locationService.searchCities(query, stateId));
+        return conditionalGet.respond(request, locationService.getReferenceDataTag(), REFERENCE_DATA_CACHE,
+                () -> locationService.searchCities(query, stateId));
     }
 }
@@ -0,0 +1,23 @@
+package com.matheus.rentify.app.shared.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object for spelling out several monetary amounts in one call.
+ */
+public record AmountInWordsRequestDTO(
+
+        @Schema(description = "Amounts in BRL to spell out, in the order the results should come back.",
+                example = "[1500.00, 3000.00, 87.35]", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "Amounts cannot be empty.")
+        @Size(max = 500, message = "At most 500 amounts can be spelled out per request.")
+        List<@NotNull(message = "Amounts cannot contain null values.")
+             @DecimalMin(value = "0.00", message = "Amounts cannot be negative.") BigDecimal> amounts
+) {}
@@ -0,0 +1,17 @@
+package com.matheus.rentify.app.shared.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for responding with a monetary amount written out in Portuguese.
+ */
+public record AmountInWordsResponseDTO(
+        @Schema(description = "The amount as it was requested.", example = "1500.50")
+        BigDecimal amount,
+
+        @Schema(description = "The amount written in full (por extenso).", example = "um mil, quinhentos reais e cinquenta centavos")
+        String inWords
+) {
+}
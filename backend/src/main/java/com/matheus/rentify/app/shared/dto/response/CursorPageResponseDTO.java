@@ -0,0 +1,22 @@
+package com.matheus.rentify.app.shared.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a single keyset-paginated slice of results.
+ * Clients pass {@code nextCursor} back to fetch the following slice.
+ */
+public record CursorPageResponseDTO<T>(
+
+        @Schema(description = "Items in this page, in listing order.")
+        List<T> content,
+
+        @Schema(description = "Opaque token for the next page, or null when this is the last one.", example = "MTA0Mg")
+        String nextCursor,
+
+        @Schema(description = "Whether more items are available after this page.", example = "true")
+        boolean hasNext
+) {
+}
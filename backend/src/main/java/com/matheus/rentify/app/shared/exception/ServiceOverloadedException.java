@@ -0,0 +1,12 @@
+package com.matheus.rentify.app.shared.exception;
+
+/**
+ * Thrown when a bounded worker pool has no room left for another task.
+ * Mapped to 503 so clients back off and retry instead of waiting on a saturated server.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
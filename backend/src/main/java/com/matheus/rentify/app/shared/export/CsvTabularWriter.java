@@ -0,0 +1,87 @@
+package com.matheus.rentify.app.shared.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV in UTF-8 with a byte order mark, so spreadsheet applications detect the encoding.
+ * Text cells starting with a formula character are prefixed with a quote so they open as text.
+ */
+class CsvTabularWriter implements TabularWriter {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+    private boolean started;
+
+    CsvTabularWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeRow(Object... cells) throws IOException {
+        start();
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(format(cells[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String format(Object cell) {
+        if (cell == null) {
+            return "";
+        }
+        if (cell instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (!(cell instanceof CharSequence)) {
+            return cell.toString();
+        }
+
+        String text = cell.toString();
+        if (!text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (needsQuoting(text)) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            writer.write(BYTE_ORDER_MARK);
+            started = true;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        start();
+        writer.flush();
+    }
+}
@@ -0,0 +1,38 @@
+package com.matheus.rentify.app.shared.export;
+
+import java.io.OutputStream;
+
+/**
+ * File formats the report exports can be downloaded in.
+ */
+public enum TabularExportFormat {
+
+    CSV("text/csv;charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    TabularExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileName(String baseName) {
+        return baseName + "." + extension;
+    }
+
+    /**
+     * @param sheetName Worksheet name for XLSX; ignored for CSV.
+     */
+    public TabularWriter open(OutputStream out, String sheetName) {
+        return switch (this) {
+            case CSV -> new CsvTabularWriter(out);
+            case XLSX -> new XlsxTabularWriter(out, sheetName);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.matheus.rentify.app.shared.export;
+
+import java.io.IOException;
+
+/**
+ * Writes a table one row at a time to an output stream, so exports never hold more than the current
+ * row in memory. Cells may be {@code null}, strings, numbers, dates or enums.
+ *
+ * {@link #close()} finishes the document but leaves the underlying stream open.
+ */
+public interface TabularWriter extends AutoCloseable {
+
+    void writeRow(Object... cells) throws IOException;
+
+    /**
+     * Pushes the rows written so far to the underlying stream.
+     */
+    void flush() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -1,14 +1,20 @@
 package com.matheus.rentify.app.shared.model;
 
+import com.matheus.rentify.app.shared.util.SearchKeys;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "cities")
+@Table(
+        name = "cities",
+        indexes = {
+                @Index(name = "idx_cities_search_key", columnList = "search_key"),
+                @Index(name = "idx_cities_state_search_key", columnList = "state_fk, search_key")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class City {
 
     @Id
@@ -19,7 +25,27 @@ public class City {
     @Column(name = "city_name", length = 100)
     private String cityName;
 
+    /**
+     * Accent- and case-folded {@link #cityName}, see {@link SearchKeys}. Bulk-seeded rows get it
+     * from {@code DataLoader}; rows written through JPA keep it in sync here.
+     */
+    @Column(name = "search_key", length = 100)
+    private String searchKey;
+
     @ManyToOne
     @JoinColumn(name = "state_fk")
     private State state;
+
+    public City(Long id, String cityName, State state) {
+        this.id = id;
+        this.cityName = cityName;
+        this.state = state;
+        this.searchKey = SearchKeys.of(cityName);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void refreshSearchKey() {
+        this.searchKey = SearchKeys.of(cityName);
+    }
 }
@@ -14,6 +14,18 @@ import java.util.Optional;
 public interface CityRepository extends JpaRepository<City, Long> {
     List<City> findByStateId(Long stateId);
     Optional<City> findByCityName(String cityName);
-    @Query("SELECT c FROM City c WHERE lower(c.cityName) LIKE lower(concat(:name, '%')) AND (:stateId IS NULL OR c.state.id = :stateId)")
-    List<City> searchCities(@Param("name") String name, @Param("stateId") Long stateId, Pageable pageable);
+
+    /**
+     * Prefix match on the indexed {@code search_key} column.
+     *
+     * @param searchKeyPattern An already folded and escaped prefix pattern, see {@code SearchKeys.likePrefix}.
+     */
+    @Query("SELECT c FROM City c JOIN FETCH c.state WHERE c.searchKey LIKE :pattern ESCAPE '!' AND (:stateId IS NULL OR c.state.id = :stateId) ORDER BY c.searchKey, c.id")
+    List<City> searchCities(@Param("pattern") String searchKeyPattern, @Param("stateId") Long stateId, Pageable pageable);
+
+    /**
+     * Columns: city id, city name, state id, state code, search key.
+     */
+    @Query("SELECT c.id, c.cityName, s.id, s.stateCode, c.searchKey FROM City c JOIN c.state s ORDER BY c.id")
+    List<Object[]> findAllForIndex();
 }
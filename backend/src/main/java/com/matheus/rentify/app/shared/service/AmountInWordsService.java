@@ -0,0 +1,56 @@
+package com.matheus.rentify.app.shared.service;
+
+import com.matheus.rentify.app.shared.cache.ExpiringLruCache;
+import com.matheus.rentify.app.shared.dto.response.AmountInWordsResponseDTO;
+import com.matheus.rentify.app.shared.util.MonetaryConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Spells out monetary amounts through {@link MonetaryConverter}, memoizing the results.
+ *
+ * Rents, deposits and fees repeat heavily across a portfolio, so a size-bounded LRU cache keyed on
+ * the amount rounded to centavos serves most lookups. Spellings never change, so entries only
+ * leave the cache when it is full.
+ */
+@Service
+public class AmountInWordsService {
+
+    private final ExpiringLruCache<BigDecimal, String> spellings;
+
+    @Autowired
+    public AmountInWordsService(@Value("${application.amount-words.cache.max-entries:10000}") int maxEntries) {
+        this.spellings = new ExpiringLruCache<>(maxEntries, null);
+    }
+
+    /**
+     * @return The written form of {@code amount}, or {@code null} when it is {@code null}.
+     */
+    public String inWords(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+
+        // 1500.5 and 1500.50 are different BigDecimal keys but the same spelling
+        BigDecimal key = amount.setScale(2, RoundingMode.HALF_UP);
+        String cached = spellings.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String spelling = MonetaryConverter.convert(key);
+        spellings.put(key, spelling);
+        return spelling;
+    }
+
+    public List<AmountInWordsResponseDTO> inWords(List<BigDecimal> amounts) {
+        return amounts.stream()
+                .map(amount -> new AmountInWordsResponseDTO(amount, inWords(amount)))
+                .toList();
+    }
+}
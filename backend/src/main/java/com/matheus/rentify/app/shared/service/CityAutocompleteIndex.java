@@ -0,0 +1,121 @@
+package com.matheus.rentify.app.shared.service;
+
+import com.matheus.rentify.app.shared.dto.response.CityResponseDTO;
+import com.matheus.rentify.app.shared.repository.CityRepository;
+import com.matheus.rentify.app.shared.util.SearchKeys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * In-memory prefix index over the static city reference data, serving autocomplete without a query.
+ *
+ * Cities are held in arrays sorted by their stored {@code search_key} (see {@link SearchKeys}), once
+ * for the whole country and once per state. A lookup is a binary search for the first key at or after
+ * the prefix followed by a short forward scan. The index is immutable; {@link #rebuild()} swaps in a
+ * new one, and runs once the application is ready, after {@code DataLoader} has seeded the tables.
+ */
+@Component
+public class CityAutocompleteIndex {
+
+    private final CityRepository cityRepository;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Autowired
+    public CityAutocompleteIndex(CityRepository cityRepository) {
+        this.cityRepository = cityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Entry> all = new ArrayList<>();
+        Map<Long, List<Entry>> byState = new HashMap<>();
+
+        for (Object[] row : cityRepository.findAllForIndex()) {
+            CityResponseDTO city = new CityResponseDTO((Long) row[0], (String) row[1], (String) row[3]);
+            String key = row[4] != null ? (String) row[4] : SearchKeys.of(city.cityName());
+            Entry entry = new Entry(key, city);
+            all.add(entry);
+            byState.computeIfAbsent((Long) row[2], stateId -> new ArrayList<>()).add(entry);
+        }
+
+        Map<Long, Shard> stateShards = new HashMap<>();
+        byState.forEach((stateId, entries) -> stateShards.put(stateId, Shard.of(entries)));
+
+        snapshot = new Snapshot(Shard.of(all), Map.copyOf(stateShards));
+    }
+
+    /**
+     * @return Whether the index holds any city. Until then callers should fall back to the database.
+     */
+    public boolean isLoaded() {
+        return snapshot.all().size() > 0;
+    }
+
+    /**
+     * Returns up to {@code limit} cities whose search key starts with the query's search key,
+     * in alphabetical order, optionally restricted to one state.
+     */
+    public List<CityResponseDTO> search(String query, Long stateId, int limit) {
+        Snapshot current = snapshot;
+        Shard shard = stateId == null ? current.all() : current.byState().get(stateId);
+        if (shard == null) {
+            return List.of();
+        }
+        return shard.prefixSearch(SearchKeys.of(query), limit);
+    }
+
+    private record Entry(String key, CityResponseDTO city) {
+    }
+
+    private record Snapshot(Shard all, Map<Long, Shard> byState) {
+        static final Snapshot EMPTY = new Snapshot(Shard.of(List.of()), Map.of());
+    }
+
+    private record Shard(String[] keys, CityResponseDTO[] cities) {
+
+        static Shard of(List<Entry> entries) {
+            Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparing(Entry::key).thenComparing(entry -> entry.city().id()));
+
+            String[] keys = new String[sorted.length];
+            CityResponseDTO[] cities = new CityResponseDTO[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = sorted[i].key();
+                cities[i] = sorted[i].city();
+            }
+            return new Shard(keys, cities);
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        List<CityResponseDTO> prefixSearch(String prefix, int limit) {
+            List<CityResponseDTO> matches = new ArrayList<>(Math.min(limit, 16));
+            for (int i = lowerBound(prefix); i < keys.length && matches.size() < limit && keys[i].startsWith(prefix); i++) {
+                matches.add(cities[i]);
+            }
+            return matches;
+        }
+
+        private int lowerBound(String prefix) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -4,7 +4,11 @@ import com.matheus.rentify.app.shared.dto.response.CityResponseDTO;
 import com.matheus.rentify.app.shared.dto.response.StateResponseDTO;
 import com.matheus.rentify.app.shared.repository.CityRepository;
 import com.matheus.rentify.app.shared.repository.StateRepository;
+import com.matheus.rentify.app.shared.util.SearchKeys;
+import com.matheus.rentify.app.shared.web.ConditionalGet;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,13 +19,43 @@ import java.util.List;
 @Service
 public class LocationService {
 
+    private static final int SEARCH_LIMIT = 5;
+
     private final StateRepository stateRepository;
     private final CityRepository cityRepository;
+    private final CityAutocompleteIndex cityAutocompleteIndex;
+    private final ConditionalGet conditionalGet;
+
+    private volatile String referenceDataTag;
 
     @Autowired
-    public LocationService(StateRepository stateRepository, CityRepository cityRepository) {
+    public LocationService(StateRepository stateRepository, CityRepository cityRepository,
+                           CityAutocompleteIndex cityAutocompleteIndex, ConditionalGet conditionalGet) {
         this.stateRepository = stateRepository;
         this.cityRepository = cityRepository;
+        this.cityAutocompleteIndex = cityAutocompleteIndex;
+        this.conditionalGet = conditionalGet;
+    }
+
+    /**
+     * Entity tag shared by every location endpoint. States and cities only change when
+     * {@code DataLoader} seeds them, so one hash over the whole dataset versions every response
+     * built from it.
+     */
+    public String getReferenceDataTag() {
+        String tag = referenceDataTag;
+        return tag != null ? tag : refreshReferenceDataTag();
+    }
+
+    /**
+     * Hashes the reference data once the application is ready, after {@code DataLoader} has run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public String refreshReferenceDataTag() {
+        String tag = conditionalGet.contentTag(List.of(getAllStates(), cityRepository.findAllForIndex()));
+        referenceDataTag = tag;
+        return tag;
     }
 
     @Transactional(readOnly = true)
@@ -40,10 +74,21 @@ public class LocationService {
                 .toList();
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Autocomplete lookup. Served from {@link CityAutocompleteIndex} once it is loaded; the database
+     * query is only used before that.
+     */
     public List<CityResponseDTO> searchCities(String query, Long stateId) {
-        Pageable limit = PageRequest.of(0, 5);
-        return cityRepository.searchCities(query, stateId, limit)
+        if (cityAutocompleteIndex.isLoaded()) {
+            return cityAutocompleteIndex.search(query, stateId, SEARCH_LIMIT);
+        }
+        return searchCitiesInDatabase(query, stateId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CityResponseDTO> searchCitiesInDatabase(String query, Long stateId) {
+        Pageable limit = PageRequest.of(0, SEARCH_LIMIT);
+        return cityRepository.searchCities(SearchKeys.likePrefix(SearchKeys.of(query)), stateId, limit)
                 .stream()
                 .map(city -> new CityResponseDTO(city.getId(), city.getCityName(), city.getState().getStateCode()))
                 .toList();
@@ -0,0 +1,72 @@
+package com.matheus.rentify.app.shared.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque cursor tokens used by keyset-paginated endpoints.
+ *
+ * A cursor is the id of the last row the client has seen, wrapped in URL-safe Base64
+ * so clients treat it as an opaque value instead of building their own. Listings sorted
+ * by a date use a {@link DateKey} cursor instead, which carries the date as a tie-breaker.
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private CursorCodec() {
+    }
+
+    public static String encode(long lastSeenId) {
+        return ENCODER.encodeToString(Long.toString(lastSeenId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor The token returned by a previous page, or {@code null} for the first page.
+     * @return The last seen id, or {@code null} when no cursor was given.
+     * @throws IllegalArgumentException If the token was not produced by {@link #encode(long)}.
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor: " + cursor);
+        }
+    }
+
+    public static String encode(LocalDate lastSeenDate, long lastSeenId) {
+        return ENCODER.encodeToString((lastSeenDate + "|" + lastSeenId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor The token returned by a previous page, or {@code null} for the first page.
+     * @return The last seen date and id, or {@code null} when no cursor was given.
+     * @throws IllegalArgumentException If the token was not produced by {@link #encode(LocalDate, long)}.
+     */
+    public static DateKey decodeDateKey(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII).split("\\|", 2);
+            return new DateKey(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid pagination cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Position of the last row seen in a listing ordered by a date, newest first, then by id.
+     */
+    public record DateKey(LocalDate date, long id) {
+    }
+}
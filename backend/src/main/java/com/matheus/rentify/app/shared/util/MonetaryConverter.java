@@ -1,5 +1,7 @@
 package com.matheus.rentify.app.shared.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -12,7 +14,10 @@ import java.math.RoundingMode;
  * - Singular vs. Plural (real/reais, centavo/centavos).
  * - Special cases like "cem" vs. "cento".
  * - Correct scale names (mil, milhão, milhões, etc.).
- * - Follows the rule of "mil" instead of "um mil" for 1000.
+ * - Writes "um mil" for 1000, as contracts spell it.
+ *
+ * The spelling of every triplet (0-999) is computed once, so a conversion only splits the value
+ * into triplets and appends precomputed words, from the highest scale down.
  */
 public final class MonetaryConverter {
 
@@ -35,6 +40,22 @@ public final class MonetaryConverter {
     private static final String[] ESCALA_SINGULAR = {"", "mil", "milhão", "bilhão", "trilhão"};
     private static final String[] ESCALA_PLURAL = {"", "mil", "milhões", "bilhões", "trilhões"};
 
+    /**
+     * Spelling of every number from 0 to 999, indexed by the number itself. Index 0 is empty.
+     */
+    private static final String[] TRIPLETS = new String[1000];
+
+    /**
+     * Values from here on would need a scale beyond "trilhões".
+     */
+    private static final BigDecimal LIMIT = BigDecimal.TEN.pow(3 * ESCALA_SINGULAR.length);
+
+    static {
+        for (int i = 0; i < TRIPLETS.length; i++) {
+            TRIPLETS[i] = convertTriplet(i);
+        }
+    }
+
     /**
      * Private constructor to prevent instantiation of utility class.
      */
@@ -43,115 +64,110 @@ public final class MonetaryConverter {
 
     /**
      * Main method to convert a BigDecimal value to its full written form.
-     * Example: 1500.50 -> "mil e quinhentos reais e cinquenta centavos"
+     * Example: 1500.50 -> "um mil, quinhentos reais e cinquenta centavos"
      *
      * @param value The BigDecimal monetary value.
      * @return The value written in full (por extenso).
+     * @throws IllegalArgumentException If the value reaches one quadrillion reais.
      */
     public static String convert(BigDecimal value) {
         if (value == null) {
             return "";
         }
+        try {
+            return convert(value, new StringBuilder(64)).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+    }
+
+    /**
+     * Appends the written form of {@code value} to {@code out}, without building an intermediate String.
+     * Appends nothing for {@code null} or negative values.
+     *
+     * @return {@code out}, for chaining.
+     * @throws IllegalArgumentException If the value reaches one quadrillion reais.
+     */
+    public static <A extends Appendable> A convert(BigDecimal value, A out) throws IOException {
+        if (value == null) {
+            return out;
+        }
 
         // Ensure we are working with 2 decimal places
-        value = value.setScale(2, RoundingMode.HALF_UP);
+        BigDecimal scaled = value.setScale(2, RoundingMode.HALF_UP);
+        if (scaled.signum() < 0) {
+            return out;
+        }
+        if (scaled.compareTo(LIMIT) >= 0) {
+            throw new IllegalArgumentException("Value too large to be written out: " + value);
+        }
 
-        long reais = value.longValue();
-        int centavos = value.remainder(BigDecimal.ONE).multiply(new BigDecimal(100)).intValue();
+        long totalCentavos = scaled.unscaledValue().longValue();
+        long reais = totalCentavos / 100;
+        int centavos = (int) (totalCentavos % 100);
 
         if (reais == 0 && centavos == 0) {
-            return "zero reais";
+            out.append("zero reais");
+            return out;
         }
 
-        String reaisStr = numberToString(reais);
-        String centavosStr = numberToString(centavos);
-
-        StringBuilder result = new StringBuilder();
-
         // --- Part 1: Reais ---
         if (reais > 0) {
-            result.append(reaisStr);
-            // FIX: Add " de" for round million/billion/etc.
-            if (reais % 1000000 == 0 && reais >= 1000000) {
-                result.append(" de");
+            appendNumber(out, reais);
+            // Round millions/billions/etc. take "de": "um milhão de reais"
+            if (reais % 1000000 == 0) {
+                out.append(" de");
             }
-            result.append(reais == 1 ? " real" : " reais");
+            out.append(reais == 1 ? " real" : " reais");
         }
 
         // --- Part 2: Centavos ---
         if (centavos > 0) {
             if (reais > 0) {
-                result.append(" e ");
+                out.append(" e ");
             }
-            result.append(centavosStr);
-            result.append(centavos == 1 ? " centavo" : " centavos");
+            out.append(TRIPLETS[centavos]);
+            out.append(centavos == 1 ? " centavo" : " centavos");
         }
 
-        return result.toString();
+        return out;
     }
 
     /**
-     * Converts a positive number (long) into its written-out form.
-     * This is the core recursive logic.
+     * Appends a positive number below {@link #LIMIT} in its written-out form.
      *
-     * @param n The number to convert.
-     * @return The number as a string (e.g., "cento e vinte e três").
+     * The number is split into triplets first, then written from the highest scale down. Two
+     * written triplets are joined by "e" when the triplet just below the higher one is at most
+     * 100 ("um milhão e cinco", "dois mil e cem"), and by a comma otherwise.
      */
-    private static String numberToString(long n) {
-        if (n == 0) {
-            return "zero"; // Should only be hit if called directly with 0
-        }
-
-        if (n < 0) {
-            return "menos " + numberToString(-n);
-        }
-
-        StringBuilder sb = new StringBuilder();
-        int escala = 0;
-        long lastTriplet = -1; // FIX: Track the last processed triplet
-
+    private static void appendNumber(Appendable out, long n) throws IOException {
+        int[] triplets = new int[ESCALA_SINGULAR.length];
+        int highest = -1;
         while (n > 0) {
-            int triplet = (int) (n % 1000);
-
-            if (triplet > 0) {
-                String tripletStr = convertTriplet(triplet);
-
-                // Handle scale (mil, milhão...)
-                if (escala > 0) {
-                    // REGRA REMOVIDA: A regra especial que transformava "um mil" em "mil" foi removida.
-                    /*
-                    // Special rule: "mil" not "um mil"
-                    if (triplet == 1 && escala == 1) {
-                        tripletStr = ""; // We just want "mil", not "um mil"
-                    }
-                    */
-
-                    tripletStr += " " + (triplet > 1 ? ESCALA_PLURAL[escala] : ESCALA_SINGULAR[escala]);
-                }
+            triplets[++highest] = (int) (n % 1000);
+            n /= 1000;
+        }
 
-                // Add "e" connector
-                // FIX: Use "," or "e" based on the last triplet's value
-                if (sb.length() > 0) {
-                    // Use "e" if the last part was zero, 100, or < 100
-                    if (lastTriplet != -1 && (lastTriplet == 0 || lastTriplet == 100 || (lastTriplet > 0 && lastTriplet < 100))) {
-                        sb.insert(0, " e ");
-                    } else if (lastTriplet != -1) {
-                        // Use "," for connecting larger parts
-                        sb.insert(0, ", ");
-                    }
-                }
-                sb.insert(0, tripletStr);
+        int lastWritten = -1;
+        for (int escala = highest; escala >= 0; escala--) {
+            int triplet = triplets[escala];
+            if (triplet == 0) {
+                continue;
             }
-
-            lastTriplet = triplet; // Update lastTriplet regardless of it being > 0
-            n /= 1000;
-            escala++;
+            if (lastWritten >= 0) {
+                out.append(triplets[lastWritten - 1] <= 100 ? " e " : ", ");
+            }
+            out.append(TRIPLETS[triplet]);
+            if (escala > 0) {
+                out.append(' ').append(triplet > 1 ? ESCALA_PLURAL[escala] : ESCALA_SINGULAR[escala]);
+            }
+            lastWritten = escala;
         }
-        return sb.toString().trim();
     }
 
     /**
      * Converts a 3-digit number (0-999) into its written-out form.
+     * Only used to fill {@link #TRIPLETS}.
      *
      * @param n The 3-digit number.
      * @return The number as a string.
@@ -0,0 +1,69 @@
+package com.matheus.rentify.app.shared.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the folded keys used for prefix searches over names such as cities.
+ *
+ * A key is the trimmed value decomposed to NFD with its combining marks removed, then lowercased,
+ * so "São Paulo" and "sao paulo" share the key {@code sao paulo}. Stored keys and incoming queries
+ * both go through {@link #of(String)}, which keeps a lookup a plain ordinal prefix comparison.
+ */
+public final class SearchKeys {
+
+    /**
+     * Escape character of {@link #likePrefix(String)}. Not a backslash, which MySQL also treats as an
+     * escape inside string literals.
+     */
+    public static final char LIKE_ESCAPE = '!';
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private SearchKeys() {
+    }
+
+    /**
+     * @return The search key for {@code value}, or an empty string when it is {@code null}.
+     */
+    public static String of(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = value.strip();
+        if (isPlainAscii(stripped)) {
+            return stripped.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(stripped, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return A {@code LIKE} pattern matching keys that start with {@code key}. Literal {@code %} and
+     *         {@code _} are escaped with {@link #LIKE_ESCAPE}, so they match only themselves.
+     */
+    public static String likePrefix(String key) {
+        StringBuilder pattern = new StringBuilder(key.length() + 1);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package com.matheus.rentify.app.shared.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET support for read endpoints: an {@code ETag} and {@code Cache-Control} on every
+ * response, and a bodiless {@code 304 Not Modified} when the client's {@code If-None-Match} already
+ * holds the current tag.
+ *
+ * Endpoints whose data has a version known up front (reference data hashed at startup) pass the tag
+ * and a body supplier, so a revalidation never builds the body. Other endpoints pass the body and
+ * get a tag hashed from its JSON form, which saves the transfer but not the lookup.
+ */
+@Component
+public class ConditionalGet {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final int TAG_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ConditionalGet(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Responds with {@code 304} when {@code etag} matches the request, otherwise with the supplied body.
+     *
+     * @param etag A quoted entity tag, typically from {@link #contentTag(Object)}.
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, String etag, CacheControl cacheControl, Supplier<T> body) {
+        if (matches(request, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+
+    /**
+     * Responds with {@code 304} when the content hash of {@code body} matches the request, otherwise with the body.
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, CacheControl cacheControl, T body) {
+        return respond(request, contentTag(body), cacheControl, () -> body);
+    }
+
+    /**
+     * @return A strong, quoted entity tag derived from the JSON serialization of {@code value}.
+     */
+    public String contentTag(Object value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(value));
+            return "\"" + ENCODER.encodeToString(Arrays.copyOf(digest, TAG_BYTES)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize value for its entity tag", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Weak comparison, as RFC 9110 requires for {@code If-None-Match}: a {@code W/} prefix on
+     * either side is ignored and {@code *} matches any tag.
+     */
+    static boolean matches(WebRequest request, String etag) {
+        String[] values = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (values == null) {
+            return false;
+        }
+        String current = stripWeak(etag);
+        for (String value : values) {
+            for (String candidate : value.split(",")) {
+                String tag = candidate.strip();
+                if (tag.equals("*") || stripWeak(tag).equals(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,3 @@
+ALTER TABLE cities ADD COLUMN search_key VARCHAR(100);
+CREATE INDEX idx_cities_search_key ON cities (search_key);
+CREATE INDEX idx_cities_state_search_key ON cities (state_fk, search_key);
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS monthly_financial_rollup (
+    rollup_id BIGINT NOT NULL AUTO_INCREMENT,
+    rollup_year INT NOT NULL,
+    rollup_month INT NOT NULL,
+    total_revenue DECIMAL(14, 2) NOT NULL,
+    total_expenses DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (rollup_id),
+    CONSTRAINT uk_rollup_year_month UNIQUE (rollup_year, rollup_month)
+);
@@ -0,0 +1,3 @@
+CREATE INDEX idx_payments_reference_period ON payments (reference_year, reference_month, lease_fk);
+CREATE INDEX idx_payments_lease_reference_period ON payments (lease_fk, reference_year, reference_month);
+CREATE INDEX idx_payments_payment_date ON payments (payment_date, payment_id);
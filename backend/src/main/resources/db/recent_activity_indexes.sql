@@ -0,0 +1,2 @@
+CREATE INDEX idx_maintenance_jobs_request_date ON maintenance_jobs (request_date, job_id);
+CREATE INDEX idx_leases_status_end_date ON leases (status, end_date);
@@ -0,0 +1,106 @@
+package com.matheus.rentify.app.auth.controller;
+
+import com.matheus.rentify.app.auth.dto.request.LoginRequestDTO;
+import com.matheus.rentify.app.auth.dto.request.RegisterRequestDTO;
+import com.matheus.rentify.app.auth.dto.response.LoginResponseDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires a sustained burst of logins and checks that a report endpoint keeps its latency while
+ * BCrypt work is confined to the small hashing pool. Opt-in: {@code mvn test -DexcludedGroups= -Dgroups=load}.
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "application.security.password-hashing.threads=2",
+                "application.security.password-hashing.queue-capacity=4"
+        }
+)
+@ActiveProfiles("test")
+class LoginStormLoadTest {
+
+    private static final int STORM_CLIENTS = 64;
+    private static final int SAMPLES = 40;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void reportLatency_ShouldHoldDuringLoginStorm() throws Exception {
+        restTemplate.postForEntity("/api/auth/register",
+                new RegisterRequestDTO("Storm User", "storm.user", "storm@rentify.test", "password123"), String.class);
+        LoginRequestDTO credentials = new LoginRequestDTO("storm.user", "password123");
+        String token = restTemplate.postForEntity("/api/auth/login", credentials, LoginResponseDTO.class)
+                .getBody()
+                .token();
+
+        long baselineP90 = p90(sampleReportLatencies(token));
+
+        AtomicBoolean storming = new AtomicBoolean(true);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService stormPool = Executors.newFixedThreadPool(STORM_CLIENTS);
+        for (int i = 0; i < STORM_CLIENTS; i++) {
+            stormPool.submit(() -> {
+                while (storming.get()) {
+                    HttpStatusCode status = restTemplate.postForEntity("/api/auth/login", credentials, String.class).getStatusCode();
+                    if (status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                        rejected.incrementAndGet();
+                    } else if (status.is2xxSuccessful()) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        Thread.sleep(500);
+        long stormP90 = p90(sampleReportLatencies(token));
+
+        storming.set(false);
+        stormPool.shutdown();
+        assertThat(stormPool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(accepted.get()).isPositive();
+        assertThat(rejected.get()).isPositive();
+        assertThat(stormP90).isLessThan(Math.max(baselineP90 * 5, TimeUnit.MILLISECONDS.toNanos(250)));
+    }
+
+    private List<Long> sampleReportLatencies(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            ResponseEntity<String> response = restTemplate.exchange("/api/reports/dashboard-summary", HttpMethod.GET, request, String.class);
+            latencies.add(System.nanoTime() - start);
+            assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        }
+        return latencies;
+    }
+
+    private static long p90(List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return sorted.get((int) Math.ceil(sorted.size() * 0.9) - 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.matheus.rentify.app.auth.service;
+
+import com.matheus.rentify.app.auth.model.User;
+import com.matheus.rentify.app.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CachingUserDetailsService userDetailsService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new CachingUserDetailsService(userRepository, 10, 300);
+        user = new User();
+        user.setId(1L);
+        user.setUsername("maria");
+        when(userRepository.findByUsername("maria")).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void loadUserByUsername_ShouldQueryRepositoryOnceWhileCached() {
+        assertThat(userDetailsService.loadUserByUsername("maria")).isSameAs(user);
+        assertThat(userDetailsService.loadUserByUsername("maria")).isSameAs(user);
+
+        verify(userRepository, times(1)).findByUsername("maria");
+    }
+
+    @Test
+    void evict_ShouldForceTheNextLookupToHitTheRepository() {
+        userDetailsService.loadUserByUsername("maria");
+        userDetailsService.evict("maria");
+        userDetailsService.loadUserByUsername("maria");
+
+        verify(userRepository, times(2)).findByUsername("maria");
+    }
+}
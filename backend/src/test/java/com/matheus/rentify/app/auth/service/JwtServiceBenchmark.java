@@ -0,0 +1,78 @@
+package com.matheus.rentify.app.auth.service;
+
+import com.matheus.rentify.app.auth.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@code JwtAuthenticationFilter}.
+ *
+ * {@code legacyFilterPath} reproduces the previous flow: three full parses, each one decoding
+ * the secret and building a new parser. Run with {@link #main(String[])} from the IDE, or
+ * through the JMH runner on the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "c4004e6579c3907280e27902321a4821156b72122023171212004c3273127670";
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private JwtService cachedService;
+    private JwtService uncachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedService = new JwtService(SECRET, EXPIRATION_MS, 10_000);
+        uncachedService = new JwtService(SECRET, EXPIRATION_MS, 0);
+
+        User user = new User();
+        user.setUsername("benchmark.user");
+        token = cachedService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyParse(token).getSubject();
+        return username.equals(legacyParse(token).getSubject())
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public Object verifyWithCachedParser() {
+        return uncachedService.verify(token);
+    }
+
+    @Benchmark
+    public Object verifyWithTokenCache() {
+        return cachedService.verify(token);
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
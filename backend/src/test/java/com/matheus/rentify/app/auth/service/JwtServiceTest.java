@@ -0,0 +1,54 @@
+package com.matheus.rentify.app.auth.service;
+
+import com.matheus.rentify.app.auth.model.User;
+import com.matheus.rentify.app.auth.model.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "c4004e6579c3907280e27902321a4821156b72122023171212004c3273127670";
+
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L, 100);
+        user = new User();
+        user.setId(7L);
+        user.setUsername("maria");
+    }
+
+    @Test
+    void verify_ShouldReturnClaimsAndServeRepeatsFromCache() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken first = jwtService.verify(token);
+        VerifiedToken second = jwtService.verify(token);
+
+        assertThat(first.username()).isEqualTo("maria");
+        assertThat(first.claims()).containsEntry("sub", "maria");
+        assertThat(first.userId()).isEqualTo(7L);
+        assertThat(first.authorities()).isEmpty();
+        assertThat(second).isSameAs(first);
+        assertThat(jwtService.isTokenValid(token, user)).isTrue();
+    }
+
+    @Test
+    void verify_ShouldRejectTamperedAndExpiredTokens() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.verify(tampered));
+
+        JwtService expiringService = new JwtService(SECRET, -1_000L, 100);
+        String expired = expiringService.generateToken(user);
+
+        assertThrows(JwtException.class, () -> expiringService.verify(expired));
+    }
+}
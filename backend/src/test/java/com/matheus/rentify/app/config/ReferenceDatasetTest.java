@@ -0,0 +1,47 @@
+package com.matheus.rentify.app.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceDatasetTest {
+
+    @Test
+    void parse_ShouldReadEveryRowOfTheBundledScripts() throws IOException {
+        ReferenceDataset dataset = ReferenceDataset.parse(read("db/states.sql"), read("db/cities.sql"));
+
+        assertThat(dataset.states()).hasSize(27);
+        assertThat(dataset.states().get(21)).isEqualTo(new ReferenceDataset.StateRow("RO", "Rondônia"));
+        assertThat(dataset.cities()).hasSize(5570);
+        assertThat(dataset.cities().get(0)).isEqualTo(new ReferenceDataset.CityRow("Alta Floresta D'Oeste", 22));
+    }
+
+    @Test
+    void valueTuples_ShouldHandleEscapedQuotesAndMultipleStatements() {
+        String sql = """
+                INSERT INTO cities (city_name, state_fk) VALUES ('Values, D''Oeste', 1);
+                INSERT INTO cities (city_name, state_fk) VALUES ('A', 2), ( 'B' , 3 );
+                """;
+
+        assertThat(ReferenceDataset.valueTuples(sql, 2))
+                .containsExactly(List.of("Values, D'Oeste", "1"), List.of("A", "2"), List.of("B", "3"));
+    }
+
+    @Test
+    void parse_ShouldRejectCitiesOfUnknownStates() {
+        assertThatThrownBy(() -> ReferenceDataset.parse(
+                "INSERT INTO states (state_code, state_name) VALUES ('AC', 'Acre');",
+                "INSERT INTO cities (city_name, state_fk) VALUES ('Rio Branco', 2);"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String read(String path) throws IOException {
+        return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+    }
+}
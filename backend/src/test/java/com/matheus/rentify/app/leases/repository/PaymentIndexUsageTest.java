@@ -0,0 +1,72 @@
+package com.matheus.rentify.app.leases.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks, through H2's EXPLAIN output, that the payment access paths resolve to the
+ * indexes declared on {@code Payment} instead of scanning the table.
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class PaymentIndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void referencePeriodLookup_ShouldUseReferencePeriodIndex() {
+        String plan = explain("""
+            SELECT p.lease_fk FROM payments p
+            WHERE p.reference_month = 10 AND p.reference_year = 2025
+        """);
+
+        assertThat(plan).containsIgnoringCase("idx_payments_reference_period");
+    }
+
+    @Test
+    void leaseYearRangeLookup_ShouldUseLeaseReferencePeriodIndex() {
+        // Shape of the paid-months join in LeaseRepository.findPaidMonthsByLease. An equality on all three
+        // columns is served just as well by idx_payments_reference_period, so only a range on the year
+        // singles out the lease-first index.
+        String plan = explain("""
+            SELECT p.reference_year, p.reference_month FROM payments p
+            WHERE p.lease_fk = 1 AND p.reference_year BETWEEN 2024 AND 2025
+        """);
+
+        assertThat(plan).containsIgnoringCase("idx_payments_lease_reference_period");
+    }
+
+    @Test
+    void paymentDateRange_ShouldUsePaymentDateIndex() {
+        String plan = explain("""
+            SELECT MONTH(p.payment_date), SUM(p.amount_paid) FROM payments p
+            WHERE p.payment_date >= DATE '2025-01-01' AND p.payment_date < DATE '2026-01-01'
+            GROUP BY MONTH(p.payment_date)
+        """);
+
+        assertThat(plan).containsIgnoringCase("idx_payments_payment_date");
+    }
+
+    @Test
+    void yearFunctionPredicate_ShouldFallBackToTableScan() {
+        String plan = explain("""
+            SELECT MONTH(p.payment_date), SUM(p.amount_paid) FROM payments p
+            WHERE YEAR(p.payment_date) = 2025
+            GROUP BY MONTH(p.payment_date)
+        """);
+
+        assertThat(plan).containsIgnoringCase("tableScan");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
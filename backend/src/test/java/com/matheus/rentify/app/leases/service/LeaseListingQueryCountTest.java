@@ -0,0 +1,187 @@
+package com.matheus.rentify.app.leases.service;
+
+import com.matheus.rentify.app.auth.model.User;
+import com.matheus.rentify.app.auth.repository.UserRepository;
+import com.matheus.rentify.app.landlord.model.LandlordProfile;
+import com.matheus.rentify.app.landlord.repository.LandlordProfileRepository;
+import com.matheus.rentify.app.leases.model.GuaranteeTypeEnum;
+import com.matheus.rentify.app.leases.model.Lease;
+import com.matheus.rentify.app.leases.model.LeaseStatusEnum;
+import com.matheus.rentify.app.leases.repository.LeaseRepository;
+import com.matheus.rentify.app.people.model.MaritalStatusEnum;
+import com.matheus.rentify.app.people.model.Tenant;
+import com.matheus.rentify.app.people.repository.TenantRepository;
+import com.matheus.rentify.app.properties.model.Property;
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
+import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import com.matheus.rentify.app.shared.model.City;
+import com.matheus.rentify.app.shared.model.State;
+import com.matheus.rentify.app.shared.repository.CityRepository;
+import com.matheus.rentify.app.shared.repository.StateRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the lease list paths against N+1 selects: the number of SQL statements
+ * must not depend on how many leases are returned.
+ */
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class LeaseListingQueryCountTest {
+
+    @Autowired
+    private LeaseService leaseService;
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private StateRepository stateRepository;
+
+    @Autowired
+    private LandlordProfileRepository landlordProfileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private int sequence = 0;
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository.deleteAll();
+        propertyRepository.deleteAll();
+        tenantRepository.deleteAll();
+        landlordProfileRepository.deleteAll();
+        userRepository.deleteAll();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAll_ShouldIssueSameNumberOfStatements_WhateverTheResultSize() {
+        seedLeases(2);
+        long fewLeases = countStatements(() -> assertThat(leaseService.getAll(null, null, null)).hasSize(2));
+
+        seedLeases(8);
+        long manyLeases = countStatements(() -> assertThat(leaseService.getAll(null, null, null)).hasSize(10));
+
+        assertThat(fewLeases).isEqualTo(1);
+        assertThat(manyLeases).isEqualTo(fewLeases);
+    }
+
+    @Test
+    void getAllByStatus_ShouldIssueSameNumberOfStatements_WhateverTheResultSize() {
+        seedLeases(2);
+        long fewLeases = countStatements(() -> leaseService.getAll(LeaseStatusEnum.ACTIVE, null, null));
+
+        seedLeases(8);
+        long manyLeases = countStatements(() -> leaseService.getAll(LeaseStatusEnum.ACTIVE, null, null));
+
+        assertThat(manyLeases).isEqualTo(fewLeases);
+    }
+
+    @Test
+    void getPage_ShouldIssueSameNumberOfStatements_WhateverThePageSize() {
+        seedLeases(10);
+
+        long smallPage = countStatements(() -> assertThat(leaseService.getPage(null, null, null, null, null, null, 2).content()).hasSize(2));
+        long largePage = countStatements(() -> assertThat(leaseService.getPage(null, null, null, null, null, null, 10).content()).hasSize(10));
+
+        assertThat(smallPage).isEqualTo(1);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    private long countStatements(Runnable listing) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        listing.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void seedLeases(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = sequence++;
+
+            State state = new State();
+            state.setStateCode(String.format("%02d", n));
+            state.setStateName("State " + n);
+            stateRepository.save(state);
+
+            City city = new City();
+            city.setCityName("City " + n);
+            city.setState(state);
+            cityRepository.save(city);
+
+            Tenant tenant = new Tenant();
+            tenant.setFullName("Tenant " + n);
+            tenant.setCpf(String.format("%011d", n));
+            tenant.setCity(city);
+            tenantRepository.save(tenant);
+
+            Property property = new Property();
+            property.setAddress("Street " + n);
+            property.setPostalCode("12345678");
+            property.setCity(city);
+            property.setStatus(PropertyStatusEnum.RENTED);
+            propertyRepository.save(property);
+
+            User user = new User();
+            user.setUsername("landlord_" + n);
+            user.setPassword("password");
+            user.setEmail("landlord" + n + "@test.com");
+            user.setFullName("Landlord " + n);
+            userRepository.save(user);
+
+            LandlordProfile profile = new LandlordProfile();
+            profile.setUser(user);
+            profile.setProfileAlias("Profile " + n);
+            profile.setFullName("Landlord " + n);
+            profile.setCpfCnpj("12345678000199");
+            profile.setNationality("Brazilian");
+            profile.setMaritalStatus(MaritalStatusEnum.SINGLE);
+            profile.setProfession("Investor");
+            profile.setRg("1234567");
+            profile.setFullAddress("Street A, 123");
+            landlordProfileRepository.save(profile);
+
+            Lease lease = new Lease();
+            lease.setProperty(property);
+            lease.setTenant(tenant);
+            lease.setLandlordProfile(profile);
+            lease.setPaymentDueDay(10);
+            lease.setGuaranteeType(GuaranteeTypeEnum.NONE);
+            lease.setStartDate(LocalDate.now());
+            lease.setBaseRentValue(new BigDecimal("1500.00"));
+            leaseRepository.save(lease);
+        }
+    }
+}
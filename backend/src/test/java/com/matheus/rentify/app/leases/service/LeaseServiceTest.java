@@ -18,6 +18,7 @@ import com.matheus.rentify.app.people.repository.TenantRepository;
 import com.matheus.rentify.app.properties.model.Property;
 import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
 import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
 import com.matheus.rentify.app.shared.model.City;
 import com.matheus.rentify.app.shared.model.State;
 import com.matheus.rentify.app.shared.repository.CityRepository;
@@ -243,4 +244,39 @@ class LeaseServiceTest {
         Property updatedProperty = propertyRepository.findById(testProperty.getId()).get();
         assertThat(updatedProperty.getStatus()).isEqualTo(PropertyStatusEnum.UNDER_MAINTENANCE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPage_ShouldWalkFilteredLeasesWithCursor() {
+        Lease first = saveLease(LeaseStatusEnum.ACTIVE);
+        Lease second = saveLease(LeaseStatusEnum.ACTIVE);
+        saveLease(LeaseStatusEnum.TERMINATED);
+        Lease third = saveLease(LeaseStatusEnum.ACTIVE);
+
+        CursorPageResponseDTO<LeaseResponseDTO> firstPage = leaseService.getPage(
+                LeaseStatusEnum.ACTIVE, null, testLandlordProfile.getId(), null, null, null, 2);
+
+        assertThat(firstPage.content()).extracting(LeaseResponseDTO::id)
+                .containsExactly(third.getId(), second.getId());
+        assertThat(firstPage.hasNext()).isTrue();
+
+        CursorPageResponseDTO<LeaseResponseDTO> secondPage = leaseService.getPage(
+                LeaseStatusEnum.ACTIVE, null, testLandlordProfile.getId(), null, null, firstPage.nextCursor(), 2);
+
+        assertThat(secondPage.content()).extracting(LeaseResponseDTO::id)
+                .containsExactly(first.getId());
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    private Lease saveLease(LeaseStatusEnum status) {
+        Lease lease = new Lease();
+        lease.setProperty(testProperty);
+        lease.setTenant(testTenant);
+        lease.setLandlordProfile(testLandlordProfile);
+        lease.setPaymentDueDay(10);
+        lease.setGuaranteeType(GuaranteeTypeEnum.NONE);
+        lease.setStartDate(LocalDate.now());
+        lease.setStatus(status);
+        return leaseRepository.save(lease);
+    }
+}
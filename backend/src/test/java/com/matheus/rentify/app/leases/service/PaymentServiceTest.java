@@ -0,0 +1,158 @@
+package com.matheus.rentify.app.leases.service;
+
+import com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO;
+import com.matheus.rentify.app.leases.model.GuaranteeTypeEnum;
+import com.matheus.rentify.app.leases.model.Lease;
+import com.matheus.rentify.app.leases.model.Payment;
+import com.matheus.rentify.app.leases.model.PaymentMethodEnum;
+import com.matheus.rentify.app.leases.repository.LeaseRepository;
+import com.matheus.rentify.app.leases.repository.PaymentRepository;
+import com.matheus.rentify.app.people.model.Tenant;
+import com.matheus.rentify.app.people.repository.TenantRepository;
+import com.matheus.rentify.app.properties.model.Property;
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
+import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class PaymentServiceTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Lease testLease;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository.deleteAll();
+        leaseRepository.deleteAll();
+        propertyRepository.deleteAll();
+        tenantRepository.deleteAll();
+
+        Tenant tenant = new Tenant();
+        tenant.setFullName("Test Tenant");
+        tenant.setCpf("12345678901");
+        tenantRepository.save(tenant);
+
+        Property property = new Property();
+        property.setAddress("123 Test St");
+        property.setPostalCode("12345678");
+        property.setStatus(PropertyStatusEnum.RENTED);
+        propertyRepository.save(property);
+
+        testLease = new Lease();
+        testLease.setProperty(property);
+        testLease.setTenant(tenant);
+        testLease.setPaymentDueDay(10);
+        testLease.setGuaranteeType(GuaranteeTypeEnum.NONE);
+        leaseRepository.save(testLease);
+    }
+
+    @Test
+    void getAll_ShouldProjectPaymentsNewestFirst_WithoutManagingEntities() {
+        savePayment(LocalDate.of(2025, 9, 8), 9, "1500.00");
+        savePayment(LocalDate.of(2025, 10, 8), 10, "1550.00");
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PaymentResponseDTO> payments = paymentService.getAll(testLease.getId(), null, null);
+
+        assertThat(payments).extracting(PaymentResponseDTO::referenceMonth).containsExactly(10, 9);
+        assertThat(payments.get(0).leaseId()).isEqualTo(testLease.getId());
+        assertThat(payments.get(0).amountPaid()).isEqualByComparingTo("1550.00");
+        assertThat(payments.get(0).paymentMethod()).isEqualTo(PaymentMethodEnum.PIX);
+
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void getAll_ShouldFilterByTenant() {
+        savePayment(LocalDate.of(2025, 10, 8), 10, "1550.00");
+
+        List<PaymentResponseDTO> payments = paymentService.getAll(null, testLease.getTenant().getId(), null);
+
+        assertThat(payments).hasSize(1);
+        assertThat(paymentService.getAll(null, -1L, null)).isEmpty();
+    }
+
+    @Test
+    void getPage_ShouldWalkLedgerWithCursor_BreakingDateTiesById() {
+        Payment older = savePayment(LocalDate.of(2025, 9, 8), 9, "1500.00");
+        Payment sameDayFirst = savePayment(LocalDate.of(2025, 10, 8), 10, "1550.00");
+        Payment sameDaySecond = savePayment(LocalDate.of(2025, 10, 8), 10, "80.00");
+
+        CursorPageResponseDTO<PaymentResponseDTO> firstPage = paymentService.getPage(null, 2);
+
+        assertThat(firstPage.content()).extracting(PaymentResponseDTO::id)
+                .containsExactly(sameDaySecond.getId(), sameDayFirst.getId());
+        assertThat(firstPage.hasNext()).isTrue();
+
+        CursorPageResponseDTO<PaymentResponseDTO> secondPage = paymentService.getPage(firstPage.nextCursor(), 2);
+
+        assertThat(secondPage.content()).extracting(PaymentResponseDTO::id)
+                .containsExactly(older.getId());
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    void exportAll_ShouldWriteOneJsonObjectPerLine() throws IOException {
+        savePayment(LocalDate.of(2025, 9, 8), 9, "1500.00");
+        savePayment(LocalDate.of(2025, 10, 8), 10, "1550.00");
+        entityManager.flush();
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        paymentService.exportAll(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"referenceMonth\":10");
+        assertThat(lines[1]).startsWith("{").contains("\"referenceMonth\":9");
+    }
+
+    private Payment savePayment(LocalDate paymentDate, int referenceMonth, String amount) {
+        Payment payment = new Payment();
+        payment.setLease(testLease);
+        payment.setPaymentDate(paymentDate);
+        payment.setReferenceMonth(referenceMonth);
+        payment.setReferenceYear(paymentDate.getYear());
+        payment.setAmountPaid(new BigDecimal(amount));
+        payment.setPaymentMethod(PaymentMethodEnum.PIX);
+        return paymentRepository.save(payment);
+    }
+}
@@ -0,0 +1,58 @@
+package com.matheus.rentify.app.properties.repository;
+
+import com.matheus.rentify.app.properties.model.Property;
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class PropertyRepositoryTest {
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @BeforeEach
+    void setUp() {
+        propertyRepository.deleteAll();
+
+        saveProperty(PropertyStatusEnum.AVAILABLE);
+        saveProperty(PropertyStatusEnum.AVAILABLE);
+        saveProperty(PropertyStatusEnum.RENTED);
+        saveProperty(PropertyStatusEnum.RENTED);
+        saveProperty(PropertyStatusEnum.RENTED);
+        saveProperty(PropertyStatusEnum.INACTIVE);
+    }
+
+    @Test
+    void countPropertiesGroupedByStatus_shouldReturnOneRowPerPresentStatus() {
+        Map<PropertyStatusEnum, Long> histogram = new EnumMap<>(PropertyStatusEnum.class);
+        for (Object[] row : propertyRepository.countPropertiesGroupedByStatus()) {
+            histogram.put((PropertyStatusEnum) row[0], (Long) row[1]);
+        }
+
+        assertThat(histogram)
+                .containsEntry(PropertyStatusEnum.AVAILABLE, 2L)
+                .containsEntry(PropertyStatusEnum.RENTED, 3L)
+                .containsEntry(PropertyStatusEnum.INACTIVE, 1L)
+                .doesNotContainKey(PropertyStatusEnum.UNDER_MAINTENANCE);
+    }
+
+    private void saveProperty(PropertyStatusEnum status) {
+        Property property = new Property();
+        property.setAddress("Rua das Flores, " + status);
+        property.setPostalCode("14800000");
+        property.setStatus(status);
+        propertyRepository.save(property);
+    }
+}
@@ -0,0 +1,95 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.matheus.rentify.app.leases.repository.LeaseRepository;
+import com.matheus.rentify.app.leases.repository.PaymentRepository;
+import com.matheus.rentify.app.properties.repository.MaintenanceJobRepository;
+import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardCountersServiceTest {
+
+    private static final YearMonth CURRENT_MONTH = YearMonth.now();
+
+    @Mock
+    private PropertyRepository propertyRepository;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private MaintenanceJobRepository maintenanceJobRepository;
+    @Mock
+    private LeaseRepository leaseRepository;
+
+    private DashboardCountersService dashboardCountersService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardCountersService = new DashboardCountersService(
+                propertyRepository, paymentRepository, maintenanceJobRepository, leaseRepository);
+        when(propertyRepository.countPropertiesGroupedByStatus()).thenReturn(List.of());
+        when(maintenanceJobRepository.sumOutstandingCosts(anyList())).thenReturn(null);
+        when(leaseRepository.countActiveLeasesOnDate(any())).thenReturn(0L);
+        stubRevenue("100.00");
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void recordPaymentChange_ShouldApplyTheDeltaAfterCommit() {
+        dashboardCountersService.snapshot();
+
+        dashboardCountersService.recordPaymentChange(null, null, CURRENT_MONTH, new BigDecimal("50.00"));
+        assertThat(dashboardCountersService.snapshot().currentMonthRevenue()).isEqualByComparingTo("100.00");
+
+        commit();
+
+        assertThat(dashboardCountersService.snapshot().currentMonthRevenue()).isEqualByComparingTo("150.00");
+        verify(paymentRepository, times(1)).findMonthlyRevenueGrouped();
+    }
+
+    @Test
+    void recordPaymentChange_ShouldNotCountTwiceWhenALoadSeesTheCommitFirst() {
+        dashboardCountersService.snapshot();
+        dashboardCountersService.recordPaymentChange(null, null, CURRENT_MONTH, new BigDecimal("50.00"));
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        stubRevenue("150.00");
+        dashboardCountersService.rebuild();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(dashboardCountersService.snapshot().currentMonthRevenue()).isEqualByComparingTo("150.00");
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private void stubRevenue(String amount) {
+        when(paymentRepository.findMonthlyRevenueGrouped()).thenReturn(List.<Object[]>of(
+                new Object[]{CURRENT_MONTH.getYear(), CURRENT_MONTH.getMonthValue(), new BigDecimal(amount)}));
+    }
+}
@@ -0,0 +1,84 @@
+package com.matheus.rentify.app.reports.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Occupancy history over a synthetic portfolio of one million leases: the {@link OccupancySweep}
+ * pass against counting the active leases month by month, which is what one
+ * {@code countActiveLeasesOnDate} per month amounts to. The setup fails if the two disagree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class OccupancySweepBenchmark {
+
+    private static final YearMonth FROM = YearMonth.of(2015, 1);
+
+    @Param({"1000000"})
+    public int leases;
+
+    @Param({"12", "120"})
+    public int months;
+
+    private int[] starts;
+    private int[] moveOuts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(11);
+        int first = OccupancySweep.monthIndex(FROM);
+        starts = new int[leases];
+        moveOuts = new int[leases];
+        for (int i = 0; i < leases; i++) {
+            starts[i] = first - 60 + random.nextInt(months + 60);
+            moveOuts[i] = random.nextInt(5) == 0 ? OccupancySweep.OPEN : starts[i] + 6 + random.nextInt(54);
+        }
+
+        if (!Arrays.equals(sweep(), perMonth())) {
+            throw new IllegalStateException("Sweep and per-month counts differ");
+        }
+    }
+
+    @Benchmark
+    public long[] sweep() {
+        OccupancySweep sweep = new OccupancySweep(FROM, months);
+        for (int i = 0; i < leases; i++) {
+            sweep.add(starts[i], moveOuts[i]);
+        }
+        return sweep.counts();
+    }
+
+    @Benchmark
+    public long[] perMonth() {
+        int first = OccupancySweep.monthIndex(FROM);
+        long[] counts = new long[months];
+        for (int m = 0; m < months; m++) {
+            int month = first + m;
+            long active = 0;
+            for (int i = 0; i < leases; i++) {
+                if (starts[i] <= month && moveOuts[i] > month) {
+                    active++;
+                }
+            }
+            counts[m] = active;
+        }
+        return counts;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OccupancySweepBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,52 @@
+package com.matheus.rentify.app.reports.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OccupancySweepTest {
+
+    private static final YearMonth FROM = YearMonth.of(2024, 1);
+
+    @Test
+    void counts_ShouldCoverStartMonthUpToButExcludingMoveOutMonth() {
+        OccupancySweep sweep = new OccupancySweep(FROM, 6);
+        int january = OccupancySweep.monthIndex(FROM);
+
+        sweep.add(january + 1, january + 3);          // Feb-Mar
+        sweep.add(january - 5, OccupancySweep.OPEN);  // started before the window, still running
+        sweep.add(january + 4, january + 4);          // moved out in its start month
+        sweep.add(january + 5, january + 20);         // runs past the window
+
+        assertThat(sweep.counts()).containsExactly(1, 2, 2, 1, 1, 2);
+    }
+
+    @Test
+    void counts_ShouldMatchPerMonthCounting() {
+        Random random = new Random(3);
+        int months = 36;
+        int first = OccupancySweep.monthIndex(FROM);
+        int[] starts = new int[2_000];
+        int[] moveOuts = new int[starts.length];
+        OccupancySweep sweep = new OccupancySweep(FROM, months);
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = first - 24 + random.nextInt(72);
+            moveOuts[i] = random.nextInt(5) == 0 ? OccupancySweep.OPEN : starts[i] + random.nextInt(48);
+            sweep.add(starts[i], moveOuts[i]);
+        }
+
+        long[] expected = new long[months];
+        for (int m = 0; m < months; m++) {
+            for (int i = 0; i < starts.length; i++) {
+                if (starts[i] <= first + m && moveOuts[i] > first + m) {
+                    expected[m]++;
+                }
+            }
+        }
+
+        assertThat(sweep.counts()).containsExactly(expected);
+    }
+}
@@ -0,0 +1,77 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.matheus.rentify.app.reports.event.ReportDataChangedEvent;
+import com.matheus.rentify.app.reports.event.ReportDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportCacheTest {
+
+    private static final Set<ReportDataSource> PAYMENTS = EnumSet.of(ReportDataSource.PAYMENTS);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReportCache reportCache;
+    private AtomicInteger computations;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportCache = new ReportCache(2, 600, meterRegistry);
+        computations = new AtomicInteger();
+    }
+
+    @Test
+    void get_ShouldComputeOnceAndCountHitsAndMisses() {
+        assertThat(reportCache.get("annual-income:1:2024", PAYMENTS, computations::incrementAndGet)).isEqualTo(1);
+        assertThat(reportCache.get("annual-income:1:2024", PAYMENTS, computations::incrementAndGet)).isEqualTo(1);
+        assertThat(reportCache.get("annual-income:2:2024", PAYMENTS, computations::incrementAndGet)).isEqualTo(2);
+
+        assertThat(meterRegistry.get("reports.cache.hits").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("reports.cache.misses").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("reports.cache.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void onReportDataChanged_ShouldOnlyInvalidateReportsReadingThatSource() {
+        reportCache.get("financials:null", PAYMENTS, computations::incrementAndGet);
+        reportCache.get("leases-expiring:30", EnumSet.of(ReportDataSource.LEASES), computations::incrementAndGet);
+
+        reportCache.onReportDataChanged(ReportDataChangedEvent.of(ReportDataSource.PAYMENTS));
+
+        assertThat(reportCache.get("financials:null", PAYMENTS, computations::incrementAndGet)).isEqualTo(3);
+        assertThat(reportCache.get("leases-expiring:30", EnumSet.of(ReportDataSource.LEASES), computations::incrementAndGet)).isEqualTo(2);
+        assertThat(meterRegistry.get("reports.cache.invalidations").tag("source", "PAYMENTS").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("reports.cache.invalidations").tag("source", "LEASES").counter().count()).isZero();
+    }
+
+    @Test
+    void get_ShouldCountEvictionsOnceFull() {
+        reportCache.get("a", PAYMENTS, computations::incrementAndGet);
+        reportCache.get("b", PAYMENTS, computations::incrementAndGet);
+        reportCache.get("c", PAYMENTS, computations::incrementAndGet);
+
+        assertThat(meterRegistry.get("reports.cache.evictions").functionCounter().count()).isEqualTo(1.0);
+        assertThat(reportCache.get("a", PAYMENTS, computations::incrementAndGet)).isEqualTo(4);
+    }
+
+    @Test
+    void get_ShouldNotCacheNullResults() {
+        reportCache.get("empty", PAYMENTS, () -> {
+            computations.incrementAndGet();
+            return null;
+        });
+        reportCache.get("empty", PAYMENTS, () -> {
+            computations.incrementAndGet();
+            return null;
+        });
+
+        assertThat(computations).hasValue(2);
+    }
+}
@@ -0,0 +1,223 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheus.rentify.app.reports.dto.request.ReportJobRequestDTO;
+import com.matheus.rentify.app.reports.dto.response.MonthlyOccupancyResponseDTO;
+import com.matheus.rentify.app.reports.dto.response.ReportJobResponseDTO;
+import com.matheus.rentify.app.reports.model.ReportJobStatusEnum;
+import com.matheus.rentify.app.reports.model.ReportJobTypeEnum;
+import com.matheus.rentify.app.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceTest {
+
+    private static final YearMonth FROM = YearMonth.of(2025, 1);
+    private static final YearMonth TO = YearMonth.of(2025, 2);
+    private static final Duration RETENTION = Duration.ofMinutes(60);
+
+    @Mock
+    private ReportService reportService;
+
+    @TempDir
+    Path storageDir;
+
+    private MutableClock clock;
+    private ReportJobService reportJobService;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-11-28T10:00:00Z"));
+        reportJobService = newService(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportJobService.destroy();
+    }
+
+    @Test
+    void submit_ShouldRunTheReportAndKeepTheResultOnDisk() throws Exception {
+        when(reportService.getOccupancyHistory(FROM, TO)).thenReturn(List.of(
+                new MonthlyOccupancyResponseDTO(1, 2025, 3, 75.0),
+                new MonthlyOccupancyResponseDTO(2, 2025, 4, 100.0)));
+
+        ReportJobResponseDTO submitted = reportJobService.submit(occupancyRequest(), "maria");
+        ReportJobResponseDTO finished = awaitFinished(submitted.id(), "maria");
+
+        assertThat(finished.status()).isEqualTo(ReportJobStatusEnum.COMPLETED);
+        assertThat(finished.expiresAt()).isEqualTo(finished.completedAt().plus(RETENTION));
+        assertThat(finished.result()).hasSize(2);
+        assertThat(finished.result().get(1).get("occupiedUnits").asLong()).isEqualTo(4);
+        assertThat(storageDir.resolve(submitted.id() + ".json")).exists();
+    }
+
+    @Test
+    void submit_ShouldLimitJobsInProgressPerUser() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(reportService.getOccupancyHistory(FROM, TO)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        ReportJobResponseDTO first = reportJobService.submit(occupancyRequest(), "maria");
+
+        assertThatThrownBy(() -> reportJobService.submit(occupancyRequest(), "maria"))
+                .isInstanceOf(ServiceOverloadedException.class);
+        ReportJobResponseDTO otherUser = reportJobService.submit(occupancyRequest(), "joao");
+
+        release.countDown();
+        awaitFinished(first.id(), "maria");
+        awaitFinished(otherUser.id(), "joao");
+        assertThat(reportJobService.submit(occupancyRequest(), "maria").status()).isNotNull();
+    }
+
+    @Test
+    void getJob_ShouldHideJobsOfOtherUsers() throws Exception {
+        when(reportService.getOccupancyHistory(FROM, TO)).thenReturn(List.of());
+        ReportJobResponseDTO submitted = reportJobService.submit(occupancyRequest(), "maria");
+        awaitFinished(submitted.id(), "maria");
+
+        assertThatThrownBy(() -> reportJobService.getJob(submitted.id(), "joao"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void getJob_ShouldDiscardResultsOnceRetentionHasPassed() throws Exception {
+        when(reportService.getOccupancyHistory(FROM, TO)).thenReturn(List.of());
+        ReportJobResponseDTO submitted = reportJobService.submit(occupancyRequest(), "maria");
+        awaitFinished(submitted.id(), "maria");
+
+        clock.advance(RETENTION.plusSeconds(1));
+
+        assertThatThrownBy(() -> reportJobService.getJob(submitted.id(), "maria"))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(storageDir.resolve(submitted.id() + ".json")).doesNotExist();
+    }
+
+    @Test
+    void submit_ShouldRecordWhyAJobFailed() throws Exception {
+        when(reportService.generateAnnualIncomeReport(eq(7L), anyInt()))
+                .thenThrow(new EntityNotFoundException("Landlord Profile not found"));
+
+        ReportJobResponseDTO submitted = reportJobService.submit(
+                new ReportJobRequestDTO(ReportJobTypeEnum.ANNUAL_INCOME, 7L, 2022, 2024, null, null), "maria");
+        ReportJobResponseDTO finished = awaitFinished(submitted.id(), "maria");
+
+        assertThat(finished.status()).isEqualTo(ReportJobStatusEnum.FAILED);
+        assertThat(finished.error()).isEqualTo("Landlord Profile not found");
+        assertThat(finished.result()).isNull();
+        verify(reportService).generateAnnualIncomeReport(7L, 2022);
+    }
+
+    @Test
+    void submit_ShouldRejectMissingParametersBeforeQueueing() {
+        assertThatThrownBy(() -> reportJobService.submit(
+                new ReportJobRequestDTO(ReportJobTypeEnum.ANNUAL_INCOME, null, 2024, null, null, null), "maria"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reportJobService.submit(
+                new ReportJobRequestDTO(ReportJobTypeEnum.LATE_PAYMENT_MATRIX, null, null, null, FROM, null), "maria"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(reportService);
+    }
+
+    @Test
+    void submit_ShouldRejectInvalidWindowsBeforeQueueing() {
+        assertThatThrownBy(() -> reportJobService.submit(
+                new ReportJobRequestDTO(ReportJobTypeEnum.OCCUPANCY_HISTORY, null, null, null, TO, FROM), "maria"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("The window start must not be after its end");
+        assertThatThrownBy(() -> reportJobService.submit(
+                new ReportJobRequestDTO(ReportJobTypeEnum.LATE_PAYMENT_MATRIX, null, null, null, FROM, FROM.plusMonths(120)), "maria"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The window cannot exceed 120 months.");
+        assertThatThrownBy(() -> reportJobService.submit(
+                new ReportJobRequestDTO(ReportJobTypeEnum.OCCUPANCY_HISTORY, null, null, null, FROM, FROM.plusMonths(600)), "maria"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The window cannot exceed 600 months.");
+
+        verifyNoInteractions(reportService);
+    }
+
+    @Test
+    void constructor_ShouldDeleteResultsLeftByAPreviousRun() throws Exception {
+        Path leftover = Files.writeString(storageDir.resolve("stale.json"), "[]");
+
+        newService(1).destroy();
+
+        assertThat(leftover).doesNotExist();
+    }
+
+    private ReportJobService newService(int maxJobsPerUser) {
+        return new ReportJobService(reportService, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+                2, 10, maxJobsPerUser, RETENTION, storageDir, clock);
+    }
+
+    private ReportJobResponseDTO awaitFinished(String id, String owner) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ReportJobResponseDTO job = reportJobService.getJob(id, owner);
+        while ((job.status() == ReportJobStatusEnum.QUEUED || job.status() == ReportJobStatusEnum.RUNNING)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = reportJobService.getJob(id, owner);
+        }
+        return job;
+    }
+
+    private static ReportJobRequestDTO occupancyRequest() {
+        return new ReportJobRequestDTO(ReportJobTypeEnum.OCCUPANCY_HISTORY, null, null, null, FROM, TO);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
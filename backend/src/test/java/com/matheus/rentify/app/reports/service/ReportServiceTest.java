@@ -0,0 +1,336 @@
+package com.matheus.rentify.app.reports.service;
+
+import com.matheus.rentify.app.leases.dto.request.PaymentRequestDTO;
+import com.matheus.rentify.app.leases.dto.response.PaymentResponseDTO;
+import com.matheus.rentify.app.leases.model.GuaranteeTypeEnum;
+import com.matheus.rentify.app.leases.model.Lease;
+import com.matheus.rentify.app.leases.model.PaymentMethodEnum;
+import com.matheus.rentify.app.leases.repository.LeaseRepository;
+import com.matheus.rentify.app.leases.repository.PaymentRepository;
+import com.matheus.rentify.app.leases.service.PaymentService;
+import com.matheus.rentify.app.people.model.Tenant;
+import com.matheus.rentify.app.people.repository.TenantRepository;
+import com.matheus.rentify.app.properties.dto.request.MaintenanceJobRequestDTO;
+import com.matheus.rentify.app.properties.model.MaintenanceStatusEnum;
+import com.matheus.rentify.app.properties.model.Property;
+import com.matheus.rentify.app.properties.model.PropertyStatusEnum;
+import com.matheus.rentify.app.properties.repository.MaintenanceJobRepository;
+import com.matheus.rentify.app.properties.repository.PropertyRepository;
+import com.matheus.rentify.app.properties.service.MaintenanceJobService;
+import com.matheus.rentify.app.reports.dto.response.DashboardActivityResponseDTO;
+import com.matheus.rentify.app.reports.dto.response.LatePaymentMatrixResponseDTO;
+import com.matheus.rentify.app.reports.dto.response.LatePaymentMatrixRowDTO;
+import com.matheus.rentify.app.reports.dto.response.LatePaymentResponseDTO;
+import com.matheus.rentify.app.reports.dto.response.MonthlyFinancialResponseDTO;
+import com.matheus.rentify.app.reports.dto.response.MonthlyOccupancyResponseDTO;
+import com.matheus.rentify.app.reports.model.ActivityTypeEnum;
+import com.matheus.rentify.app.reports.repository.MonthlyFinancialRollupRepository;
+import com.matheus.rentify.app.shared.dto.response.CursorPageResponseDTO;
+import com.matheus.rentify.app.shared.export.TabularExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ReportServiceTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private MaintenanceJobService maintenanceJobService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private MaintenanceJobRepository maintenanceJobRepository;
+
+    @Autowired
+    private MonthlyFinancialRollupRepository rollupRepository;
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    private Property testProperty;
+    private Lease testLease;
+
+    @BeforeEach
+    void setUp() {
+        rollupRepository.deleteAll();
+        paymentRepository.deleteAll();
+        maintenanceJobRepository.deleteAll();
+        leaseRepository.deleteAll();
+        propertyRepository.deleteAll();
+        tenantRepository.deleteAll();
+
+        Tenant tenant = new Tenant();
+        tenant.setFullName("Test Tenant");
+        tenant.setCpf("12345678901");
+        tenantRepository.save(tenant);
+
+        testProperty = new Property();
+        testProperty.setAddress("123 Test St");
+        testProperty.setPostalCode("12345678");
+        testProperty.setStatus(PropertyStatusEnum.RENTED);
+        propertyRepository.save(testProperty);
+
+        testLease = new Lease();
+        testLease.setProperty(testProperty);
+        testLease.setTenant(tenant);
+        testLease.setPaymentDueDay(10);
+        testLease.setGuaranteeType(GuaranteeTypeEnum.NONE);
+        leaseRepository.save(testLease);
+    }
+
+    @Test
+    void getFinancialHistory_ShouldFollowPaymentAndMaintenanceWrites() {
+        PaymentResponseDTO september = createPayment(2024, 9, "1500.00");
+        createPayment(2024, 10, "1550.00");
+        createPayment(2025, 1, "1600.00");
+        createCompletedJob(LocalDate.of(2024, 10, 20), "300.00");
+
+        paymentService.updatePayment(september.id(), paymentRequest(2024, 10, "1500.00"));
+
+        List<MonthlyFinancialResponseDTO> history = reportService.getFinancialHistory(2024);
+
+        assertThat(history).hasSize(1);
+        MonthlyFinancialResponseDTO october = history.get(0);
+        assertThat(october.month()).isEqualTo(10);
+        assertThat(october.totalRevenue()).isEqualByComparingTo("3050.00");
+        assertThat(october.totalExpenses()).isEqualByComparingTo("300.00");
+        assertThat(october.netIncome()).isEqualByComparingTo("2750.00");
+
+        assertThat(reportService.getFinancialHistory(null))
+                .extracting(MonthlyFinancialResponseDTO::year, MonthlyFinancialResponseDTO::month)
+                .containsExactly(
+                        tuple(2024, 10),
+                        tuple(2025, 1));
+    }
+
+    @Test
+    void rebuildFinancialHistory_ShouldMatchIncrementalRollup() {
+        createPayment(2024, 10, "1550.00");
+        createCompletedJob(LocalDate.of(2024, 11, 5), "120.00");
+
+        List<MonthlyFinancialResponseDTO> incremental = reportService.getFinancialHistory(null);
+        List<MonthlyFinancialResponseDTO> rebuilt = reportService.rebuildFinancialHistory();
+
+        assertThat(rebuilt).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(incremental);
+    }
+
+    @Test
+    void getLatePayments_ShouldReturnUnpaidActiveLeasesWithDaysLate() {
+        LocalDate dueDate = LocalDate.of(2024, 10, 10);
+
+        List<LatePaymentResponseDTO> late = reportService.getLatePayments(10, 2024);
+
+        assertThat(late).hasSize(1);
+        LatePaymentResponseDTO row = late.get(0);
+        assertThat(row.leaseId()).isEqualTo(testLease.getId());
+        assertThat(row.propertyAddress()).isEqualTo("123 Test St");
+        assertThat(row.tenantName()).isEqualTo("Test Tenant");
+        assertThat(row.referenceMonth()).isEqualTo(10);
+        assertThat(row.daysLate()).isEqualTo(ChronoUnit.DAYS.between(dueDate, LocalDate.now()));
+
+        createPayment(2024, 10, "1550.00");
+
+        assertThat(reportService.getLatePayments(10, 2024)).isEmpty();
+        assertThat(reportService.getLatePayments(11, 2024)).hasSize(1);
+    }
+
+    @Test
+    void exportFinancialHistory_ShouldWriteOneCsvRowPerRollupMonth() throws IOException {
+        createPayment(2024, 10, "1550.00");
+        createCompletedJob(LocalDate.of(2024, 10, 20), "300.00");
+        createPayment(2025, 1, "1600.00");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportExportService.exportFinancialHistory(2024, TabularExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("\uFEFFyear,month,totalRevenue,totalExpenses,netIncome");
+        String[] october = lines[1].split(",");
+        assertThat(october[0]).isEqualTo("2024");
+        assertThat(october[1]).isEqualTo("10");
+        assertThat(new BigDecimal(october[2])).isEqualByComparingTo("1550.00");
+        assertThat(new BigDecimal(october[4])).isEqualByComparingTo("1250.00");
+    }
+
+    @Test
+    void exportLatePayments_ShouldWriteTheSameRowsAsGetLatePayments() throws IOException {
+        LatePaymentResponseDTO expected = reportService.getLatePayments(10, 2024).get(0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        reportExportService.exportLatePayments(10, 2024, TabularExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\r\n")).containsExactly(
+                "\uFEFFleaseId,propertyAddress,tenantName,paymentDueDay,referenceMonth,rentValue,daysLate",
+                expected.leaseId() + ",123 Test St,Test Tenant,10,10,"
+                        + (expected.rentValue() != null ? expected.rentValue().toPlainString() : "")
+                        + "," + expected.daysLate());
+        assertThat(expected.daysLate()).isEqualTo(ChronoUnit.DAYS.between(LocalDate.of(2024, 10, 10), LocalDate.now()));
+    }
+
+    @Test
+    void getLatePaymentsPage_ShouldWalkLateLeasesWithCursor() {
+        Lease second = new Lease();
+        second.setProperty(testProperty);
+        second.setTenant(testLease.getTenant());
+        second.setPaymentDueDay(5);
+        second.setGuaranteeType(GuaranteeTypeEnum.NONE);
+        leaseRepository.save(second);
+
+        CursorPageResponseDTO<LatePaymentResponseDTO> firstPage = reportService.getLatePaymentsPage(10, 2024, null, 1);
+
+        assertThat(firstPage.content()).extracting(LatePaymentResponseDTO::leaseId).containsExactly(testLease.getId());
+        assertThat(firstPage.hasNext()).isTrue();
+
+        CursorPageResponseDTO<LatePaymentResponseDTO> secondPage =
+                reportService.getLatePaymentsPage(10, 2024, firstPage.nextCursor(), 1);
+
+        assertThat(secondPage.content()).extracting(LatePaymentResponseDTO::leaseId).containsExactly(second.getId());
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void getLatePaymentMatrix_ShouldMarkPaidMissedAndNotDueMonths() {
+        Lease paidUp = new Lease();
+        paidUp.setProperty(testProperty);
+        paidUp.setTenant(testLease.getTenant());
+        paidUp.setPaymentDueDay(5);
+        paidUp.setGuaranteeType(GuaranteeTypeEnum.NONE);
+        paidUp.setStartDate(LocalDate.of(2024, 10, 1));
+        leaseRepository.save(paidUp);
+
+        createPayment(2024, 10, "1550.00");
+        paymentService.createPayment(new PaymentRequestDTO(paidUp.getId(), new BigDecimal("900.00"),
+                LocalDate.of(2024, 10, 5), 10, 2024, null, PaymentMethodEnum.PIX, null));
+        paymentService.createPayment(new PaymentRequestDTO(paidUp.getId(), new BigDecimal("900.00"),
+                LocalDate.of(2024, 11, 5), 11, 2024, null, PaymentMethodEnum.PIX, null));
+
+        LatePaymentMatrixResponseDTO matrix = reportService.getLatePaymentMatrix(YearMonth.of(2024, 9), YearMonth.of(2024, 11));
+
+        assertThat(matrix.leases()).hasSize(1);
+        LatePaymentMatrixRowDTO row = matrix.leases().get(0);
+        assertThat(row.leaseId()).isEqualTo(testLease.getId());
+        assertThat(row.months()).isEqualTo("010");
+        assertThat(row.missedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getRecentActivities_ShouldMergeNewestPaymentsJobsAndExpiringLeases() {
+        for (int month = 5; month <= 10; month++) {
+            createPayment(2024, month, "1500.00");
+        }
+        createCompletedJob(LocalDate.of(2024, 9, 20), "300.00");
+        LocalDate endDate = LocalDate.now().plusDays(10);
+        testLease.setEndDate(endDate);
+        leaseRepository.save(testLease);
+
+        List<DashboardActivityResponseDTO> activities = reportService.getRecentActivities();
+
+        assertThat(activities)
+                .extracting(DashboardActivityResponseDTO::type, DashboardActivityResponseDTO::date)
+                .containsExactly(
+                        tuple(ActivityTypeEnum.EXPIRING_LEASE, endDate),
+                        tuple(ActivityTypeEnum.PAYMENT, LocalDate.of(2024, 10, 8)),
+                        tuple(ActivityTypeEnum.MAINTENANCE, LocalDate.of(2024, 9, 17)),
+                        tuple(ActivityTypeEnum.PAYMENT, LocalDate.of(2024, 9, 8)),
+                        tuple(ActivityTypeEnum.PAYMENT, LocalDate.of(2024, 8, 8)));
+
+        DashboardActivityResponseDTO lease = activities.get(0);
+        assertThat(lease.title()).isEqualTo("Contrato vencendo");
+        assertThat(lease.subtitle()).isEqualTo("123 Test St");
+        assertThat(lease.value()).isNull();
+        assertThat(lease.relatedId()).isEqualTo(testLease.getId());
+        assertThat(lease.daysRemaining()).isEqualTo(10L);
+
+        DashboardActivityResponseDTO payment = activities.get(1);
+        assertThat(payment.title()).isEqualTo("Pagamento recebido de Test Tenant");
+        assertThat(payment.subtitle()).isEqualTo("123 Test St");
+        assertThat(payment.value()).isEqualByComparingTo("1500.00");
+
+        DashboardActivityResponseDTO job = activities.get(2);
+        assertThat(job.title()).isEqualTo("Manutenção: COMPLETED");
+        assertThat(job.subtitle()).isEqualTo("Plumbing");
+        assertThat(job.value()).isEqualByComparingTo("300.00");
+        assertThat(job.daysRemaining()).isNull();
+    }
+
+    @Test
+    void getOccupancyHistory_ShouldCountLeasesActiveAtEachMonthEnd() {
+        testLease.setStartDate(LocalDate.of(2024, 2, 15));
+        testLease.setMoveOutDate(LocalDate.of(2024, 5, 31));
+        leaseRepository.save(testLease);
+
+        Lease running = new Lease();
+        running.setProperty(testProperty);
+        running.setTenant(testLease.getTenant());
+        running.setPaymentDueDay(5);
+        running.setGuaranteeType(GuaranteeTypeEnum.NONE);
+        running.setStartDate(LocalDate.of(2023, 12, 1));
+        leaseRepository.save(running);
+
+        List<MonthlyOccupancyResponseDTO> history =
+                reportService.getOccupancyHistory(YearMonth.of(2024, 1), YearMonth.of(2024, 6));
+
+        assertThat(history)
+                .extracting(MonthlyOccupancyResponseDTO::month, MonthlyOccupancyResponseDTO::occupiedUnits)
+                .containsExactly(
+                        tuple(1, 1L),
+                        tuple(2, 2L),
+                        tuple(3, 2L),
+                        tuple(4, 2L),
+                        tuple(5, 1L),
+                        tuple(6, 1L));
+        assertThat(history.get(1).occupiedUnits())
+                .isEqualTo(leaseRepository.countActiveLeasesOnDate(LocalDate.of(2024, 2, 29)));
+    }
+
+    private PaymentResponseDTO createPayment(int year, int month, String amount) {
+        return paymentService.createPayment(paymentRequest(year, month, amount));
+    }
+
+    private PaymentRequestDTO paymentRequest(int year, int month, String amount) {
+        return new PaymentRequestDTO(testLease.getId(), new BigDecimal(amount), LocalDate.of(year, month, 8),
+                month, year, null, PaymentMethodEnum.PIX, null);
+    }
+
+    private void createCompletedJob(LocalDate completionDate, String cost) {
+        maintenanceJobService.createJob(new MaintenanceJobRequestDTO(testProperty.getId(), "Plumbing",
+                completionDate.minusDays(3), completionDate, new BigDecimal(cost), null, MaintenanceStatusEnum.COMPLETED));
+    }
+}
@@ -0,0 +1,114 @@
+package com.matheus.rentify.app.shared.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightGroupTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightGroup group;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        group = new SingleFlightGroup(meterRegistry);
+    }
+
+    @Test
+    void execute_ShouldShareOneExecutionBetweenConcurrentCallers() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Integer>> results = runConcurrently(() -> group.execute("dashboard", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return 42;
+        }));
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(group.inFlightCount()).isZero();
+        assertThat(meterRegistry.get("single.flight.shared").counter().count()).isEqualTo(CALLERS - 1.0);
+    }
+
+    @Test
+    void execute_ShouldRethrowTheFailureToEveryWaitingCaller() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Integer>> results = runConcurrently(() -> group.execute("financials", () -> {
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        awaitWaiters(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("boom");
+        }
+        assertThat(group.inFlightCount()).isZero();
+    }
+
+    @Test
+    void execute_ShouldRunAgainOnceThePreviousFlightFinished() {
+        AtomicInteger executions = new AtomicInteger();
+
+        group.execute("dashboard", executions::incrementAndGet);
+        group.execute("dashboard", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void execute_ShouldNotShareBetweenDifferentKeys() {
+        assertThat(group.execute(List.of("financials", 2023), () -> "2023")).isEqualTo("2023");
+        assertThat(group.execute(List.of("financials", 2024), () -> "2024")).isEqualTo("2024");
+        assertThat(meterRegistry.get("single.flight.shared").counter().count()).isZero();
+    }
+
+    private <T> List<Future<T>> runConcurrently(Callable<T> call) {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(call));
+        }
+        executor.shutdown();
+        return futures;
+    }
+
+    private void awaitWaiters(int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("single.flight.shared").counter().count() < waiters && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
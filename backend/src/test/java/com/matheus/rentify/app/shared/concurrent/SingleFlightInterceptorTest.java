@@ -0,0 +1,109 @@
+package com.matheus.rentify.app.shared.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightGroup group;
+    private SlowReports target;
+    private SlowReports reports;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        group = new SingleFlightGroup(meterRegistry);
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("singleFlightGroup", group);
+
+        // The CGLIB proxy has its own, never initialized copies of the fields; latches and counters are read from the target.
+        target = new SlowReports();
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SingleFlight.class),
+                new SingleFlightInterceptor(beanFactory.getBeanProvider(SingleFlightGroup.class))));
+        reports = (SlowReports) proxyFactory.getProxy();
+    }
+
+    @Test
+    void invoke_ShouldCoalesceCallsWithEqualArguments() throws Exception {
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> reports.financials(2024));
+        assertThat(target.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> reports.financials(2024));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("single.flight.shared").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        target.release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("financials-2024");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("financials-2024");
+        assertThat(target.executions).hasValue(1);
+    }
+
+    @Test
+    void invoke_ShouldKeyOnArgumentsIncludingNull() {
+        target.release.countDown();
+
+        assertThat(reports.financials(null)).isEqualTo("financials-null");
+        assertThat(reports.financials(2023)).isEqualTo("financials-2023");
+        assertThat(target.executions).hasValue(2);
+    }
+
+    @Test
+    void invoke_ShouldRethrowCheckedExceptionsUnchanged() {
+        assertThatThrownBy(() -> reports.export())
+                .isInstanceOf(IOException.class)
+                .hasMessage("disk full");
+    }
+
+    @Test
+    void invoke_ShouldLeaveMethodsWithoutTheAnnotationAlone() {
+        assertThat(reports.plain()).isEqualTo("plain");
+        assertThat(group.inFlightCount()).isZero();
+    }
+
+    static class SlowReports {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger executions = new AtomicInteger();
+
+        @SingleFlight
+        public String financials(Integer year) {
+            executions.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "financials-" + year;
+        }
+
+        @SingleFlight("export")
+        public String export() throws IOException {
+            throw new IOException("disk full");
+        }
+
+        public String plain() {
+            return "plain";
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.matheus.rentify.app.shared.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TabularWriterTest {
+
+    @Test
+    void csv_ShouldQuoteEscapeAndNeutralizeFormulas() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TabularWriter writer = TabularExportFormat.CSV.open(out, "ignored")) {
+            writer.writeRow("tenantName", "amount", "date", "notes");
+            writer.writeRow("Silva, João", new BigDecimal("1E+3"), LocalDate.of(2025, 1, 10), null);
+            writer.writeRow("=SUM(A1)", 42L, null, "said \"hi\"\nthen left");
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "\uFEFFtenantName,amount,date,notes\r\n"
+                        + "\"Silva, João\",1000,2025-01-10,\r\n"
+                        + "'=SUM(A1),42,,\"said \"\"hi\"\"\nthen left\"\r\n");
+    }
+
+    @Test
+    void csv_ShouldLeaveTheStreamOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TabularExportFormat.CSV.open(out, "ignored").close();
+        out.write('x');
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFFx");
+    }
+
+    @Test
+    void xlsx_ShouldWriteAWorkbookWithInlineStringsAndNumericCells() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TabularWriter writer = TabularExportFormat.XLSX.open(out, "Late payments: 2025/01")) {
+            writer.writeRow("tenantName", "rentValue");
+            writer.writeRow("Ana & <Bia>", new BigDecimal("1500.50"));
+        }
+
+        Map<String, String> parts = unzip(out.toByteArray());
+
+        assertThat(parts).containsOnlyKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+        assertThat(parts.get("xl/workbook.xml")).contains("<sheet name=\"Late payments  2025 01\"");
+        assertThat(parts.get("xl/worksheets/sheet1.xml"))
+                .contains("<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t xml:space=\"preserve\">tenantName</t></is></c>")
+                .contains("<c r=\"A2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">Ana &amp; &lt;Bia&gt;</t></is></c>")
+                .contains("<c r=\"B2\"><v>1500.50</v></c>")
+                .endsWith("</sheetData></worksheet>");
+    }
+
+    @Test
+    void xlsx_ShouldNameColumnsPastZ() {
+        assertThat(XlsxTabularWriter.columnName(0)).isEqualTo("A");
+        assertThat(XlsxTabularWriter.columnName(25)).isEqualTo("Z");
+        assertThat(XlsxTabularWriter.columnName(26)).isEqualTo("AA");
+        assertThat(XlsxTabularWriter.columnName(702)).isEqualTo("AAA");
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        Map<String, String> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,49 @@
+package com.matheus.rentify.app.shared.service;
+
+import com.matheus.rentify.app.shared.dto.response.AmountInWordsResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmountInWordsServiceTest {
+
+    private final AmountInWordsService amountInWordsService = new AmountInWordsService(100);
+
+    @Test
+    void inWords_ShouldSpellEachAmountInRequestOrder() {
+        List<AmountInWordsResponseDTO> result = amountInWordsService.inWords(List.of(
+                new BigDecimal("1500.00"), new BigDecimal("0.01"), new BigDecimal("1500.00")));
+
+        assertThat(result).extracting(AmountInWordsResponseDTO::inWords).containsExactly(
+                "um mil, quinhentos reais", "um centavo", "um mil, quinhentos reais");
+        assertThat(result.get(0).amount()).isEqualByComparingTo("1500");
+    }
+
+    @Test
+    void inWords_ShouldReuseSpellingAcrossScales() {
+        String first = amountInWordsService.inWords(new BigDecimal("875.3"));
+        String second = amountInWordsService.inWords(new BigDecimal("875.300"));
+
+        assertThat(first).isEqualTo("oitocentos e setenta e cinco reais e trinta centavos");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void inWords_ShouldReturnNullForNullAmount() {
+        assertThat(amountInWordsService.inWords((BigDecimal) null)).isNull();
+        assertThat(amountInWordsService.inWords(Arrays.asList(BigDecimal.ONE, null)))
+                .extracting(AmountInWordsResponseDTO::inWords)
+                .containsExactly("um real", null);
+    }
+
+    @Test
+    void inWords_ShouldKeepWorkingWhenCacheIsDisabled() {
+        AmountInWordsService uncached = new AmountInWordsService(0);
+
+        assertThat(uncached.inWords(new BigDecimal("2000000.00"))).isEqualTo("dois milhões de reais");
+    }
+}
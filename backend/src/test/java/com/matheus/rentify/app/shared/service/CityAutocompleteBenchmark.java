@@ -0,0 +1,80 @@
+package com.matheus.rentify.app.shared.service;
+
+import com.matheus.rentify.app.RentifyApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * City autocomplete through {@link CityAutocompleteIndex} versus the JPQL {@code LIKE} query,
+ * over the full bundled dataset on the test profile's H2 database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CityAutocompleteBenchmark {
+
+    @Param({"s", "sao", "ribeirao p"})
+    public String query;
+
+    @Param({"", "25"})
+    public String stateId;
+
+    private ConfigurableApplicationContext context;
+    private LocationService locationService;
+    private CityAutocompleteIndex index;
+    private Long stateFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(RentifyApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run();
+
+        try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/states.sql"));
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/cities.sql"));
+        }
+
+        locationService = context.getBean(LocationService.class);
+        index = context.getBean(CityAutocompleteIndex.class);
+        index.rebuild();
+        stateFilter = stateId.isEmpty() ? null : Long.valueOf(stateId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object prefixIndex() {
+        return index.search(query, stateFilter, 5);
+    }
+
+    @Benchmark
+    public Object jpqlLike() {
+        return locationService.searchCitiesInDatabase(query, stateFilter);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CityAutocompleteBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
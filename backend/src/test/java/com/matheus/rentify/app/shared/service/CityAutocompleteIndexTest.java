@@ -0,0 +1,106 @@
+package com.matheus.rentify.app.shared.service;
+
+import com.matheus.rentify.app.shared.dto.response.CityResponseDTO;
+import com.matheus.rentify.app.shared.model.City;
+import com.matheus.rentify.app.shared.model.State;
+import com.matheus.rentify.app.shared.repository.CityRepository;
+import com.matheus.rentify.app.shared.repository.StateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class CityAutocompleteIndexTest {
+
+    @Autowired
+    private CityAutocompleteIndex cityAutocompleteIndex;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private StateRepository stateRepository;
+
+    private State saoPaulo;
+
+    @BeforeEach
+    void setUp() {
+        saoPaulo = stateRepository.save(new State(null, "XP", "Estado Teste"));
+        State minas = stateRepository.save(new State(null, "XM", "Outro Estado"));
+
+        cityRepository.save(new City(null, "Araraquara", saoPaulo));
+        cityRepository.save(new City(null, "Araras", saoPaulo));
+        cityRepository.save(new City(null, "Araçatuba", saoPaulo));
+        cityRepository.save(new City(null, "Araxá", minas));
+        cityRepository.save(new City(null, "Campinas", saoPaulo));
+        cityRepository.save(new City(null, "São José dos Campos", saoPaulo));
+
+        cityAutocompleteIndex.rebuild();
+    }
+
+    @Test
+    void search_ShouldMatchPrefixCaseInsensitivelyInAlphabeticalOrder() {
+        List<CityResponseDTO> cities = cityAutocompleteIndex.search("ARAR", null, 5);
+
+        assertThat(cities).extracting(CityResponseDTO::cityName).containsExactly("Araraquara", "Araras");
+        assertThat(cities).extracting(CityResponseDTO::stateCode).containsOnly("XP");
+    }
+
+    @Test
+    void search_ShouldFilterByStateAndRespectLimit() {
+        assertThat(cityAutocompleteIndex.search("ara", saoPaulo.getId(), 5))
+                .extracting(CityResponseDTO::cityName)
+                .doesNotContain("Araxá")
+                .hasSize(3);
+
+        assertThat(cityAutocompleteIndex.search("ara", null, 2)).hasSize(2);
+        assertThat(cityAutocompleteIndex.search("ara", -1L, 5)).isEmpty();
+    }
+
+    @Test
+    void searchCities_ShouldReturnSameCitiesAsDatabasePath() {
+        assertThat(locationService.searchCities("Camp", saoPaulo.getId()))
+                .containsExactlyElementsOf(locationService.searchCitiesInDatabase("Camp", saoPaulo.getId()));
+    }
+
+    @Test
+    void search_ShouldIgnoreAccentsOnBothSides() {
+        assertThat(cityAutocompleteIndex.search("sao jose", null, 5))
+                .extracting(CityResponseDTO::cityName)
+                .containsExactly("São José dos Campos");
+
+        assertThat(cityAutocompleteIndex.search("ARAÇA", null, 5))
+                .extracting(CityResponseDTO::cityName)
+                .containsExactly("Araçatuba");
+    }
+
+    @Test
+    void searchCitiesInDatabase_ShouldMatchOnStoredSearchKey() {
+        assertThat(cityRepository.findByCityName("São José dos Campos"))
+                .get()
+                .extracting(City::getSearchKey)
+                .isEqualTo("sao jose dos campos");
+
+        assertThat(locationService.searchCitiesInDatabase("Sao Jose", saoPaulo.getId()))
+                .extracting(CityResponseDTO::cityName)
+                .containsExactly("São José dos Campos");
+    }
+
+    @Test
+    void searchCitiesInDatabase_ShouldTreatLikeWildcardsLiterally() {
+        assertThat(locationService.searchCitiesInDatabase("%", saoPaulo.getId())).isEmpty();
+        assertThat(locationService.searchCitiesInDatabase("Sao_Jose", saoPaulo.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.matheus.rentify.app.shared.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MonetaryConverter} against {@link LegacyMonetaryConverter} on a mix of rent-sized,
+ * deposit-sized and large amounts. The setup fails if the two disagree on any input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonetaryConverterBenchmark {
+
+    private static final int AMOUNTS = 1024;
+
+    private final BigDecimal[] amounts = new BigDecimal[AMOUNTS];
+    private final StringBuilder reused = new StringBuilder(128);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        for (int i = 0; i < AMOUNTS; i++) {
+            long centavos = switch (i % 4) {
+                case 0 -> 50_000 + random.nextInt(500_000);
+                case 1 -> 100_000 + random.nextInt(2_000_000);
+                case 2 -> random.nextInt(10_000);
+                default -> (long) (random.nextDouble() * 1e13);
+            };
+            amounts[i] = BigDecimal.valueOf(centavos, 2);
+        }
+
+        for (BigDecimal amount : amounts) {
+            String expected = LegacyMonetaryConverter.convert(amount);
+            String actual = MonetaryConverter.convert(amount);
+            if (!expected.equals(actual)) {
+                throw new IllegalStateException(amount + ": expected '" + expected + "' but was '" + actual + "'");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void legacy(Blackhole blackhole) {
+        for (BigDecimal amount : amounts) {
+            blackhole.consume(LegacyMonetaryConverter.convert(amount));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void tripletTable(Blackhole blackhole) {
+        for (BigDecimal amount : amounts) {
+            blackhole.consume(MonetaryConverter.convert(amount));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(AMOUNTS)
+    public void tripletTableAppendable(Blackhole blackhole) throws IOException {
+        for (BigDecimal amount : amounts) {
+            reused.setLength(0);
+            blackhole.consume(MonetaryConverter.convert(amount, reused).length());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MonetaryConverterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
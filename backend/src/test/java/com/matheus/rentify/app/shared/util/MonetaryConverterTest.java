@@ -3,9 +3,13 @@ package com.matheus.rentify.app.shared.util;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Test class for the {@link MonetaryConverter} utility.
@@ -146,4 +150,34 @@ class MonetaryConverterTest {
         String result = MonetaryConverter.convert(new BigDecimal("10.554"));
         assertThat(result).isEqualTo("dez reais e cinquenta e cinco centavos");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldAppendToAnAppendable() throws IOException {
+        StringWriter writer = new StringWriter();
+        MonetaryConverter.convert(new BigDecimal("1500.50"), writer.append("R$ 1.500,50 (")).append(')');
+        assertThat(writer).hasToString("R$ 1.500,50 (um mil, quinhentos reais e cinquenta centavos)");
+    }
+
+    @Test
+    void shouldRejectValuesBeyondTrillions() {
+        assertThatThrownBy(() -> MonetaryConverter.convert(new BigDecimal("1000000000000000.00")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMatchPreviousImplementation() {
+        Random random = new Random(42);
+        for (long centavos = -100; centavos <= 300_000; centavos++) {
+            assertSameAsLegacy(BigDecimal.valueOf(centavos, 2));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long centavos = (long) (random.nextDouble() * Math.pow(10, 1 + random.nextInt(16)));
+            assertSameAsLegacy(BigDecimal.valueOf(centavos, 2));
+            assertSameAsLegacy(BigDecimal.valueOf(centavos, 3));
+        }
+    }
+
+    private static void assertSameAsLegacy(BigDecimal value) {
+        assertThat(MonetaryConverter.convert(value)).as("%s", value).isEqualTo(LegacyMonetaryConverter.convert(value));
+    }
+}
@@ -0,0 +1,69 @@
+package com.matheus.rentify.app.shared.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalGetTest {
+
+    private static final CacheControl CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
+    private final ConditionalGet conditionalGet = new ConditionalGet(new ObjectMapper());
+
+    @Test
+    void respond_ShouldReturnBodyWithTagAndCacheControl_WhenRequestHasNoTag() {
+        String etag = conditionalGet.contentTag(List.of("a", "b"));
+
+        ResponseEntity<List<String>> response = conditionalGet.respond(request(null), etag, CACHE, () -> List.of("a", "b"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly("a", "b");
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=86400, private");
+    }
+
+    @Test
+    void respond_ShouldReturnNotModifiedWithoutBuildingBody_WhenTagMatches() {
+        String etag = conditionalGet.contentTag(List.of("a"));
+        AtomicInteger builds = new AtomicInteger();
+
+        ResponseEntity<List<String>> response = conditionalGet.respond(request("\"other\", W/" + etag), etag, CACHE, () -> {
+            builds.incrementAndGet();
+            return List.of("a");
+        });
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(builds).hasValue(0);
+    }
+
+    @Test
+    void respond_ShouldHashBody_WhenNoTagIsGiven() {
+        String previous = conditionalGet.contentTag(List.of(1, 2));
+
+        assertThat(conditionalGet.respond(request(previous), CACHE, List.of(1, 2)).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(conditionalGet.respond(request(previous), CACHE, List.of(1, 2, 3)).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/locations/states");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request);
+    }
+}